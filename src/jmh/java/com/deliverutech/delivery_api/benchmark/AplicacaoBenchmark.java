@@ -0,0 +1,37 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.deliverutech.delivery_api.DeliveryApiApplication;
+
+/**
+ * Sobe a aplicação completa para os benchmarks, sobre H2 em memória e sem SQL/DEBUG no log.
+ * As configurações vão como argumentos de linha de comando: propriedades padrão do builder
+ * perderiam para o application.properties (show-sql e logs DEBUG ligados).
+ */
+final class AplicacaoBenchmark {
+
+    private AplicacaoBenchmark() {
+    }
+
+    static ConfigurableApplicationContext iniciar() {
+        return iniciar("jdbc:h2:mem:benchmark");
+    }
+
+    static ConfigurableApplicationContext iniciar(String urlBanco) {
+        return new SpringApplicationBuilder(DeliveryApiApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + urlBanco,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.main.banner-mode=off",
+                        "--captura.habilitada=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.web=WARN");
+    }
+}
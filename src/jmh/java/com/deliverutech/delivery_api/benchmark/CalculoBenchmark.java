@@ -0,0 +1,58 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverutech.delivery_api.model.ItemPedido;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.service.impl.PedidoServiceImpl;
+
+/**
+ * Caminho quente sem banco: cálculo do total do pedido (validadores em ValidacaoBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CalculoBenchmark {
+
+    @Param({"5", "50"})
+    private int quantidadeItens;
+
+    // calcularTotal não usa repositórios nem cache
+    private final PedidoServiceImpl pedidoService = new PedidoServiceImpl(null, null, null, null, null, null, null, null);
+    private Pedido pedido;
+
+    @Setup
+    public void preparar() {
+        List<ItemPedido> itens = new ArrayList<>(quantidadeItens);
+        for (int i = 0; i < quantidadeItens; i++) {
+            itens.add(ItemPedido.builder()
+                    .quantidade(1 + i % 4)
+                    .precoUnitario(BigDecimal.valueOf(1000 + i * 37L, 2))
+                    .build());
+        }
+        pedido = Pedido.builder().itens(itens).build();
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotal() {
+        return pedidoService.calcularTotal(pedido);
+    }
+}
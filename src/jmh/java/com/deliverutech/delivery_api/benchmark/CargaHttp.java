@@ -0,0 +1,141 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga HTTP simples para comparar os modos de execução da aplicação
+ * (threads de plataforma x profile "virtual"). A aplicação deve estar rodando.
+ *
+ * Argumentos: [urlBase] [caminho] [usuariosConcorrentes] [segundos]
+ * Cada usuário é uma thread virtual que repete GET no caminho até o fim do tempo.
+ */
+public class CargaHttp {
+
+    private static final String EMAIL = "carga@deliverytech.com";
+    private static final String SENHA = "carga123";
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        String urlBase = args.length > 0 ? args[0] : "http://localhost:8081";
+        String caminho = args.length > 1 ? args[1] : "/api/restaurantes";
+        int usuarios = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int segundos = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = autenticar(cliente, urlBase);
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(urlBase + caminho))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        System.out.printf("Carga: %d usuários por %ds em %s%s%n", usuarios, segundos, urlBase, caminho);
+
+        // Aquecimento curto para não medir JIT e criação de conexões
+        executar(cliente, requisicao, usuarios, Math.min(5, segundos), new AtomicLong());
+
+        AtomicLong erros = new AtomicLong();
+        long inicio = System.nanoTime();
+        long[] latencias = executar(cliente, requisicao, usuarios, segundos, erros);
+        double duracao = (System.nanoTime() - inicio) / 1e9;
+
+        Arrays.sort(latencias);
+        System.out.printf("Requisições: %d (%d erros) em %.1fs%n", latencias.length, erros.get(), duracao);
+        System.out.printf("Vazão: %.0f req/s%n", latencias.length / duracao);
+        System.out.printf("Latência (ms): p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                percentil(latencias, 50), percentil(latencias, 95), percentil(latencias, 99),
+                latencias.length == 0 ? 0 : latencias[latencias.length - 1] / 1e6);
+    }
+
+    private static long[] executar(HttpClient cliente, HttpRequest requisicao, int usuarios, int segundos,
+                                   AtomicLong erros) throws Exception {
+        long fim = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+        List<Future<long[]>> resultados = new ArrayList<>(usuarios);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < usuarios; i++) {
+                resultados.add(executor.submit(() -> {
+                    long[] medidas = new long[1024];
+                    int total = 0;
+                    while (System.nanoTime() < fim) {
+                        long antes = System.nanoTime();
+                        try {
+                            HttpResponse<Void> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                            if (resposta.statusCode() >= 400) {
+                                erros.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            erros.incrementAndGet();
+                        }
+                        if (total == medidas.length) {
+                            medidas = Arrays.copyOf(medidas, total * 2);
+                        }
+                        medidas[total++] = System.nanoTime() - antes;
+                    }
+                    return Arrays.copyOf(medidas, total);
+                }));
+            }
+        }
+
+        long[][] porUsuario = new long[usuarios][];
+        int total = 0;
+        for (int i = 0; i < usuarios; i++) {
+            porUsuario[i] = resultados.get(i).get();
+            total += porUsuario[i].length;
+        }
+        long[] todas = new long[total];
+        int posicao = 0;
+        for (long[] medidas : porUsuario) {
+            System.arraycopy(medidas, 0, todas, posicao, medidas.length);
+            posicao += medidas.length;
+        }
+        return todas;
+    }
+
+    private static String autenticar(HttpClient cliente, String urlBase) throws Exception {
+        // O cadastro falha se o usuário já existir; o login a seguir vale nos dois casos
+        cliente.send(json(urlBase + "/api/auth/register",
+                "{\"email\":\"" + EMAIL + "\",\"senha\":\"" + SENHA + "\",\"nome\":\"Carga\",\"role\":\"ADMIN\"}"),
+                HttpResponse.BodyHandlers.discarding());
+
+        HttpResponse<String> login = cliente.send(json(urlBase + "/api/auth/login",
+                "{\"username\":\"" + EMAIL + "\",\"password\":\"" + SENHA + "\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(login.body());
+        if (login.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Falha no login (" + login.statusCode() + "): " + login.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest json(String url, String corpo) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private static double percentil(long[] ordenadas, int percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,136 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+
+import com.deliverutech.delivery_api.dto.request.ItemPedidoRequest;
+import com.deliverutech.delivery_api.model.Cliente;
+import com.deliverutech.delivery_api.model.Endereco;
+import com.deliverutech.delivery_api.model.ItemPedido;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.model.StatusPedido;
+import com.deliverutech.delivery_api.repository.ClienteRepository;
+import com.deliverutech.delivery_api.repository.PedidoRepository;
+import com.deliverutech.delivery_api.repository.ProdutoRepository;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+
+/**
+ * Massa de dados dos benchmarks (além da carga do DataLoader):
+ * restaurantes com cardápio, clientes e pedidos com itens
+ */
+class DadosBenchmark {
+
+    private static final int RESTAURANTES = 50;
+    private static final int PRODUTOS_POR_RESTAURANTE = 20;
+    private static final int CLIENTES = 200;
+    private static final int PEDIDOS = 2_000;
+    private static final int ITENS_POR_PEDIDO = 5;
+
+    private final RestauranteRepository restauranteRepository;
+    private final ProdutoRepository produtoRepository;
+    private final ClienteRepository clienteRepository;
+    private final PedidoRepository pedidoRepository;
+
+    private final List<Restaurante> restaurantes = new ArrayList<>();
+    private final List<Produto> produtos = new ArrayList<>();
+
+    DadosBenchmark(ApplicationContext contexto) {
+        this.restauranteRepository = contexto.getBean(RestauranteRepository.class);
+        this.produtoRepository = contexto.getBean(ProdutoRepository.class);
+        this.clienteRepository = contexto.getBean(ClienteRepository.class);
+        this.pedidoRepository = contexto.getBean(PedidoRepository.class);
+    }
+
+    void gerar() {
+        for (int r = 0; r < RESTAURANTES; r++) {
+            Restaurante restaurante = new Restaurante();
+            restaurante.setNome("Restaurante Benchmark " + r);
+            restaurante.setCategoria(r % 2 == 0 ? "Italiana" : "Japonesa");
+            restaurante.setTelefone("1130000" + String.format("%04d", r));
+            restaurante.setAvaliacao(BigDecimal.valueOf(40 + r % 10, 1));
+            restaurante.setTaxaEntrega(BigDecimal.valueOf(500 + r * 10L, 2));
+            restaurante.setTempoEntregaMinutos(30 + r % 30);
+            restaurante.setAtivo(true);
+            restaurantes.add(restaurante);
+        }
+        restauranteRepository.saveAll(restaurantes);
+
+        for (Restaurante restaurante : restaurantes) {
+            for (int p = 0; p < PRODUTOS_POR_RESTAURANTE; p++) {
+                Produto produto = new Produto();
+                produto.setNome("Produto " + p + " - " + restaurante.getNome());
+                produto.setCategoria(p % 3 == 0 ? "Bebida" : "Prato");
+                produto.setDescricao("Produto gerado para benchmark");
+                produto.setPreco(10.0 + p);
+                produto.setRestaurante(restaurante);
+                produto.setAtivo(true);
+                produtos.add(produto);
+            }
+        }
+        produtoRepository.saveAll(produtos);
+
+        List<Cliente> clientes = new ArrayList<>(CLIENTES);
+        for (int c = 0; c < CLIENTES; c++) {
+            Cliente cliente = new Cliente();
+            cliente.setNome("Cliente Benchmark " + c);
+            cliente.setEmail("cliente" + c + "@benchmark.com");
+            cliente.setTelefone("119" + String.format("%08d", c));
+            cliente.setEndereco("Rua Benchmark, " + c);
+            cliente.setAtivo(true);
+            clientes.add(cliente);
+        }
+        clienteRepository.saveAll(clientes);
+
+        List<Pedido> pedidos = new ArrayList<>(PEDIDOS);
+        for (int i = 0; i < PEDIDOS; i++) {
+            Restaurante restaurante = restaurantes.get(i % RESTAURANTES);
+            Pedido pedido = Pedido.builder()
+                    .cliente(clientes.get(i % CLIENTES))
+                    .restaurante(restaurante)
+                    .status(StatusPedido.values()[i % StatusPedido.values().length])
+                    .dataPedido(LocalDateTime.now().minusMinutes(i))
+                    .enderecoEntrega(new Endereco("Rua Benchmark", String.valueOf(i), "Centro", "São Paulo", "SP", "01310-100", null))
+                    .itens(new ArrayList<>())
+                    .build();
+
+            BigDecimal total = BigDecimal.ZERO;
+            int base = (i % RESTAURANTES) * PRODUTOS_POR_RESTAURANTE;
+            for (int j = 0; j < ITENS_POR_PEDIDO; j++) {
+                Produto produto = produtos.get(base + (i + j) % PRODUTOS_POR_RESTAURANTE);
+                BigDecimal preco = BigDecimal.valueOf(produto.getPreco());
+                ItemPedido item = ItemPedido.builder()
+                        .pedido(pedido)
+                        .produto(produto)
+                        .quantidade(1 + j % 3)
+                        .precoUnitario(preco)
+                        .build();
+                pedido.getItens().add(item);
+                total = total.add(preco.multiply(BigDecimal.valueOf(item.getQuantidade())));
+            }
+            pedido.setValorTotal(total);
+            pedidos.add(pedido);
+        }
+        pedidoRepository.saveAll(pedidos);
+    }
+
+    /**
+     * Itens de cotação com produtos do primeiro restaurante gerado
+     */
+    List<ItemPedidoRequest> cotacao(int quantidadeItens) {
+        List<ItemPedidoRequest> itens = new ArrayList<>(quantidadeItens);
+        for (int i = 0; i < quantidadeItens; i++) {
+            itens.add(new ItemPedidoRequest(produtos.get(i % PRODUTOS_POR_RESTAURANTE).getId(), 1 + i % 3));
+        }
+        return itens;
+    }
+
+    Long restauranteId() {
+        return restaurantes.get(0).getId();
+    }
+}
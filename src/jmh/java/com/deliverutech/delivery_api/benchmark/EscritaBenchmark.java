@@ -0,0 +1,152 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.h2.tools.Server;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverutech.delivery_api.dto.request.ItemPedidoRequest;
+import com.deliverutech.delivery_api.model.Cliente;
+import com.deliverutech.delivery_api.model.Endereco;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.repository.ClienteRepository;
+import com.deliverutech.delivery_api.repository.ProdutoRepository;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+import com.deliverutech.delivery_api.service.PedidoService;
+
+/**
+ * Caminhos de escrita em lote: fechamento do carrinho (pedido + itens em cascata)
+ * e carga de cardápio com saveAll.
+ * Com banco=tcp o H2 roda como servidor TCP local, para que cada ida ao banco
+ * tenha o custo de rede que o batch de JDBC economiza (em memória ele quase não aparece).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EscritaBenchmark {
+
+    private static final int ITENS_CARRINHO = 10;
+    private static final int PRODUTOS_CARGA = 100;
+
+    @Param({"memoria", "tcp"})
+    private String banco;
+
+    private Server servidorH2;
+
+    private ConfigurableApplicationContext contexto;
+    private PedidoService pedidoService;
+    private ProdutoRepository produtoRepository;
+    private TransactionTemplate transacao;
+    private JdbcTemplate jdbcTemplate;
+
+    private Cliente cliente;
+    private Restaurante restaurante;
+    private Restaurante restauranteCarga;
+    private List<ItemPedidoRequest> carrinho;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        if ("tcp".equals(banco)) {
+            try {
+                servidorH2 = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Falha ao iniciar o servidor H2", e);
+            }
+            contexto = AplicacaoBenchmark.iniciar("jdbc:h2:tcp://localhost:" + servidorH2.getPort() + "/mem:benchmark");
+        } else {
+            contexto = AplicacaoBenchmark.iniciar();
+        }
+
+        pedidoService = contexto.getBean(PedidoService.class);
+        produtoRepository = contexto.getBean(ProdutoRepository.class);
+        transacao = contexto.getBean(TransactionTemplate.class);
+        jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+
+        DadosBenchmark dados = new DadosBenchmark(contexto);
+        dados.gerar();
+        carrinho = dados.cotacao(ITENS_CARRINHO);
+
+        RestauranteRepository restauranteRepository = contexto.getBean(RestauranteRepository.class);
+        restaurante = restauranteRepository.findById(dados.restauranteId()).orElseThrow();
+        cliente = contexto.getBean(ClienteRepository.class).findAll().get(0);
+
+        restauranteCarga = new Restaurante();
+        restauranteCarga.setNome("Restaurante Carga");
+        restauranteCarga.setCategoria("Brasileira");
+        restauranteCarga.setTaxaEntrega(new BigDecimal("5.00"));
+        restauranteCarga.setAtivo(true);
+        restauranteRepository.save(restauranteCarga);
+    }
+
+    // Não deixar a tabela produto crescer de uma iteração para outra
+    @TearDown(Level.Iteration)
+    public void limparCardapio() {
+        jdbcTemplate.update("DELETE FROM produto WHERE restaurante_id = ?", restauranteCarga.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+        if (servidorH2 != null) {
+            servidorH2.stop();
+        }
+    }
+
+    /**
+     * Pedido novo com os itens do carrinho (um INSERT de pedido e um por item)
+     */
+    @Benchmark
+    public Pedido finalizarCarrinho() {
+        return transacao.execute(status -> {
+            Pedido pedido = pedidoService.criar(Pedido.builder()
+                    .cliente(cliente)
+                    .restaurante(restaurante)
+                    .enderecoEntrega(new Endereco("Rua Benchmark", "1", "Centro", "São Paulo", "SP", "01310-100", null))
+                    .build());
+            return pedidoService.adicionarItens(pedido.getId(), carrinho);
+        });
+    }
+
+    /**
+     * Cardápio inteiro salvo de uma vez, como no DataLoader
+     */
+    @Benchmark
+    public List<Produto> carregarCardapio() {
+        List<Produto> produtos = new ArrayList<>(PRODUTOS_CARGA);
+        for (int i = 0; i < PRODUTOS_CARGA; i++) {
+            Produto produto = new Produto();
+            produto.setNome("Produto carga " + i);
+            produto.setCategoria("Prato");
+            produto.setDescricao("Produto gerado para benchmark de carga");
+            produto.setPreco(20.0 + i);
+            produto.setRestaurante(restauranteCarga);
+            produto.setAtivo(true);
+            produtos.add(produto);
+        }
+        return produtoRepository.saveAll(produtos);
+    }
+}
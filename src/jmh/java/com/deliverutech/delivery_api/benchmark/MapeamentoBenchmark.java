@@ -0,0 +1,160 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverutech.delivery_api.dto.response.ClienteResponse;
+import com.deliverutech.delivery_api.dto.response.PedidoResponse;
+import com.deliverutech.delivery_api.dto.response.ProdutoResponse;
+import com.deliverutech.delivery_api.dto.response.RestauranteResponse;
+import com.deliverutech.delivery_api.model.Cliente;
+import com.deliverutech.delivery_api.model.Endereco;
+import com.deliverutech.delivery_api.model.ItemPedido;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.model.StatusPedido;
+
+/**
+ * Entidade para DTO: ModelMapper (configurado como o antigo ModelMapperConfig) contra as
+ * fábricas de() dos DTOs de resposta. A preparação confere que os dois produzem o mesmo resultado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapeamentoBenchmark {
+
+    private static final int QUANTIDADE = 100;
+    private static final int ITENS_POR_PEDIDO = 5;
+
+    private ModelMapper modelMapper;
+    private final List<Pedido> pedidos = new ArrayList<>();
+    private final List<Restaurante> restaurantes = new ArrayList<>();
+    private final List<Produto> produtos = new ArrayList<>();
+    private final List<Cliente> clientes = new ArrayList<>();
+
+    @Setup
+    public void preparar() {
+        modelMapper = new ModelMapper();
+        modelMapper.addMappings(new PropertyMap<Pedido, PedidoResponse>() {
+            @Override
+            protected void configure() {
+                map().setClienteId(source.getCliente().getId());
+                map().setRestauranteId(source.getRestaurante().getId());
+            }
+        });
+
+        LocalDateTime agora = LocalDateTime.of(2026, 10, 17, 12, 0);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            long id = i + 1;
+            Restaurante restaurante = Restaurante.builder()
+                    .id(id).nome("Restaurante " + id).categoria("Pizza").telefone("11999990000")
+                    .taxaEntrega(BigDecimal.valueOf(500 + i, 2)).tempoEntregaMinutos(30 + i % 20)
+                    .ativo(i % 7 != 0)
+                    .build();
+            Produto produto = Produto.builder()
+                    .id(id).nome("Produto " + id).categoria("Pizza").descricao("Descrição " + id)
+                    .preco(19.9 + i).disponivel(i % 5 != 0).restaurante(restaurante)
+                    .build();
+            Cliente cliente = Cliente.builder()
+                    .id(id).nome("Cliente " + id).telefone("11988880000").email("cliente" + id + "@email.com")
+                    .endereco("Rua " + id).ativo(true).dataCriacao(agora)
+                    .build();
+            restaurantes.add(restaurante);
+            produtos.add(produto);
+            clientes.add(cliente);
+        }
+
+        for (int i = 0; i < QUANTIDADE; i++) {
+            Pedido pedido = Pedido.builder()
+                    .id((long) i + 1).numeroPedido("261017-" + (i + 1))
+                    .cliente(clientes.get(i)).restaurante(restaurantes.get(i))
+                    .valorTotal(BigDecimal.valueOf(9990 + i, 2)).status(StatusPedido.PENDENTE)
+                    .dataPedido(agora)
+                    .enderecoEntrega(Endereco.builder().rua("Rua A").numero("10").bairro("Centro")
+                            .cidade("São Paulo").estado("SP").cep("01001-000").build())
+                    .build();
+            List<ItemPedido> itens = new ArrayList<>(ITENS_POR_PEDIDO);
+            for (int j = 0; j < ITENS_POR_PEDIDO; j++) {
+                itens.add(ItemPedido.builder()
+                        .id((long) i * ITENS_POR_PEDIDO + j + 1).pedido(pedido)
+                        .produto(produtos.get((i + j) % QUANTIDADE))
+                        .quantidade(1 + j).precoUnitario(BigDecimal.valueOf(1990 + j, 2))
+                        .build());
+            }
+            pedido.setItens(itens);
+            pedidos.add(pedido);
+        }
+
+        conferir("pedidos", modelMapperPedidos(), manualPedidos());
+        conferir("restaurantes", modelMapperRestaurantes(), manualRestaurantes());
+        conferir("produtos", modelMapperProdutos(), manualProdutos());
+        conferir("clientes", modelMapperClientes(), manualClientes());
+    }
+
+    private static void conferir(String nome, List<?> esperado, List<?> obtido) {
+        if (!Objects.equals(esperado, obtido)) {
+            throw new IllegalStateException("Mapeamento manual de " + nome + " difere do ModelMapper");
+        }
+    }
+
+    @Benchmark
+    public List<PedidoResponse> modelMapperPedidos() {
+        return pedidos.stream().map(p -> modelMapper.map(p, PedidoResponse.class)).toList();
+    }
+
+    @Benchmark
+    public List<PedidoResponse> manualPedidos() {
+        return pedidos.stream().map(PedidoResponse::de).toList();
+    }
+
+    @Benchmark
+    public List<RestauranteResponse> modelMapperRestaurantes() {
+        return restaurantes.stream().map(r -> modelMapper.map(r, RestauranteResponse.class)).toList();
+    }
+
+    @Benchmark
+    public List<RestauranteResponse> manualRestaurantes() {
+        return restaurantes.stream().map(RestauranteResponse::de).toList();
+    }
+
+    @Benchmark
+    public List<ProdutoResponse> modelMapperProdutos() {
+        return produtos.stream().map(p -> modelMapper.map(p, ProdutoResponse.class)).toList();
+    }
+
+    @Benchmark
+    public List<ProdutoResponse> manualProdutos() {
+        return produtos.stream().map(ProdutoResponse::de).toList();
+    }
+
+    @Benchmark
+    public List<ClienteResponse> modelMapperClientes() {
+        return clientes.stream().map(c -> modelMapper.map(c, ClienteResponse.class)).toList();
+    }
+
+    @Benchmark
+    public List<ClienteResponse> manualClientes() {
+        return clientes.stream().map(ClienteResponse::de).toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverutech.delivery_api.geo.Coordenada;
+import com.deliverutech.delivery_api.geo.RestauranteIndiceEspacial;
+import com.deliverutech.delivery_api.model.Restaurante;
+
+/**
+ * Busca dos restaurantes mais próximos: índice em grade contra varredura de todos,
+ * com restaurantes espalhados pela Grande São Paulo
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProximidadeBenchmark {
+
+    private static final int K = 10;
+
+    @Param({"1000", "100000"})
+    private int quantidadeRestaurantes;
+
+    // Sem transação ativa as atualizações valem na hora; o repositório só é usado em reconstruir()
+    private final RestauranteIndiceEspacial indice = new RestauranteIndiceEspacial(null);
+    private Restaurante[] restaurantes;
+    private final Coordenada origem = new Coordenada(-23.5614, -46.6559);
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        restaurantes = new Restaurante[quantidadeRestaurantes];
+        for (int i = 0; i < quantidadeRestaurantes; i++) {
+            Restaurante restaurante = new Restaurante();
+            restaurante.setId((long) i + 1);
+            restaurante.setAtivo(true);
+            restaurante.setLatitude(-23.80 + random.nextDouble() * 0.45);
+            restaurante.setLongitude(-46.90 + random.nextDouble() * 0.55);
+            indice.atualizar(restaurante);
+            restaurantes[i] = restaurante;
+        }
+    }
+
+    @Benchmark
+    public List<RestauranteIndiceEspacial.Vizinho> indiceEspacial() {
+        return indice.proximos(origem, K, null);
+    }
+
+    @Benchmark
+    public List<RestauranteIndiceEspacial.Vizinho> varreduraCompleta() {
+        return Arrays.stream(restaurantes)
+                .map(r -> new RestauranteIndiceEspacial.Vizinho(r.getId(),
+                        origem.distanciaKm(new Coordenada(r.getLatitude(), r.getLongitude()))))
+                .sorted(Comparator.comparingDouble(RestauranteIndiceEspacial.Vizinho::distanciaKm))
+                .limit(K)
+                .toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import com.deliverutech.delivery_api.dto.request.ItemPedidoRequest;
+import com.deliverutech.delivery_api.dto.response.PedidoResponse;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.repository.PedidoRepository;
+import com.deliverutech.delivery_api.security.JwtUtil;
+import com.deliverutech.delivery_api.service.PedidoService;
+import com.deliverutech.delivery_api.service.RestauranteService;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Caminhos quentes da camada de serviço, com a aplicação completa sobre H2 em memória
+ * e a massa gerada por DadosBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServicoBenchmark {
+
+    private static final int PEDIDOS_POR_PAGINA = 20;
+
+    private ConfigurableApplicationContext contexto;
+    private PedidoService pedidoService;
+    private RestauranteService restauranteService;
+    private JwtUtil jwtUtil;
+
+    private List<ItemPedidoRequest> cotacao;
+    private Long restauranteId;
+    private String token;
+    private List<Pedido> paginaPedidos;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = AplicacaoBenchmark.iniciar();
+
+        pedidoService = contexto.getBean(PedidoService.class);
+        restauranteService = contexto.getBean(RestauranteService.class);
+        jwtUtil = contexto.getBean(JwtUtil.class);
+
+        DadosBenchmark dados = new DadosBenchmark(contexto);
+        dados.gerar();
+
+        cotacao = dados.cotacao(10);
+        restauranteId = dados.restauranteId();
+        token = jwtUtil.gerarToken("benchmark@deliverytech.com");
+        paginaPedidos = contexto.getBean(PedidoRepository.class)
+                .findAll(PageRequest.of(0, PEDIDOS_POR_PAGINA))
+                .getContent();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotalPedido() {
+        return pedidoService.calcularTotalPedido(cotacao);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTaxaEntrega() {
+        return restauranteService.calcularTaxaEntrega(restauranteId, "04567-000");
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return jwtUtil.gerarToken("benchmark@deliverytech.com");
+    }
+
+    @Benchmark
+    public Claims validarToken() {
+        return jwtUtil.validarToken(token);
+    }
+
+    /**
+     * Conversão Pedido -> PedidoResponse usada nas listagens do PedidoController
+     */
+    @Benchmark
+    public List<PedidoResponse> montarRespostas() {
+        return pedidoService.montarRespostas(paginaPedidos);
+    }
+}
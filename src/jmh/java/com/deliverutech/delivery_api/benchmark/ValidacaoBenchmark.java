@@ -0,0 +1,78 @@
+package com.deliverutech.delivery_api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverutech.delivery_api.validation.CEPValidator;
+import com.deliverutech.delivery_api.validation.CategoriaValidator;
+import com.deliverutech.delivery_api.validation.TelefoneValidator;
+
+/**
+ * Validadores de CEP, telefone e categoria, que rodam em cada corpo de requisição validado.
+ * Com o profiler gc (padrão do profile benchmark), gc.alloc.rate.norm deve ficar em 0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidacaoBenchmark {
+
+    private final CEPValidator cepValidator = new CEPValidator();
+    private final TelefoneValidator telefoneValidator = new TelefoneValidator();
+    private final CategoriaValidator categoriaValidator = new CategoriaValidator();
+
+    // Campos (e não constantes) para o JIT não resolver a validação em tempo de compilação
+    private String cepComHifen = "01310-100";
+    private String cepSemHifen = "01310100";
+    private String cepInvalido = "0131-0100";
+    private String telefoneFormatado = "(11) 98765-4321";
+    private String telefoneSoDigitos = "11987654321";
+    private String categoriaMinusculas = "comida caseira";
+    private String categoriaInvalida = "Churrascaria";
+
+    @Benchmark
+    public boolean cepComHifen() {
+        return cepValidator.isValid(cepComHifen, null);
+    }
+
+    @Benchmark
+    public boolean cepSemHifen() {
+        return cepValidator.isValid(cepSemHifen, null);
+    }
+
+    @Benchmark
+    public boolean cepInvalido() {
+        return cepValidator.isValid(cepInvalido, null);
+    }
+
+    @Benchmark
+    public boolean telefoneFormatado() {
+        return telefoneValidator.isValid(telefoneFormatado, null);
+    }
+
+    @Benchmark
+    public boolean telefoneSoDigitos() {
+        return telefoneValidator.isValid(telefoneSoDigitos, null);
+    }
+
+    @Benchmark
+    public boolean categoriaMinusculas() {
+        return categoriaValidator.isValid(categoriaMinusculas, null);
+    }
+
+    @Benchmark
+    public boolean categoriaInvalida() {
+        return categoriaValidator.isValid(categoriaInvalida, null);
+    }
+}
@@ -0,0 +1,320 @@
+package com.deliverutech.delivery_api.busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.repository.ProdutoRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice invertido em memória sobre nome, categoria e descrição dos produtos.
+ * Termos são normalizados sem acento e em minúsculas ("Açaí" -> "acai"); cada termo da busca
+ * casa por prefixo ou, a partir de 3 letras, por trigramas (trecho do meio ou erro de digitação).
+ * Todos os termos da busca precisam casar; o resultado é ordenado por relevância.
+ * Montado na subida da aplicação e mantido pelo ProdutoService a cada escrita.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProdutoIndiceBusca {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Fração mínima dos trigramas do termo buscado que o termo indexado precisa conter
+    private static final double SIMILARIDADE_MINIMA = 0.6;
+
+    private final ProdutoRepository produtoRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Documento> documentos = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> termos = new TreeMap<>();
+    private final Map<String, Set<Long>> trigramas = new HashMap<>();
+
+    /**
+     * Campos indexados, com o peso de cada um na relevância
+     */
+    enum Campo {
+        NOME(3), CATEGORIA(2), DESCRICAO(1);
+
+        final int peso;
+
+        Campo(int peso) {
+            this.peso = peso;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        // Leitura sob a trava: um indexar() após commit não roda entre a leitura e o clear()
+        // (seria apagado pela cópia mais antiga); ele espera e é aplicado sobre o índice novo
+        List<Produto> produtos;
+        lock.writeLock().lock();
+        try {
+            produtos = produtoRepository.findAll();
+            documentos.clear();
+            termos.clear();
+            trigramas.clear();
+            produtos.forEach(this::adicionar);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de busca de produtos montado com {} produtos e {} termos", produtos.size(), termos.size());
+    }
+
+    /**
+     * Indexar (ou reindexar) o produto. Dentro de uma transação, só vale após o commit.
+     */
+    public void indexar(Produto produto) {
+        // Textos copiados agora: a entidade pode mudar até o commit
+        Long id = produto.getId();
+        String nome = produto.getNome();
+        String categoria = produto.getCategoria();
+        String descricao = produto.getDescricao();
+        aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                retirar(id);
+                adicionar(id, nome, categoria, descricao);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Retirar o produto do índice. Dentro de uma transação, só vale após o commit.
+     */
+    public void remover(Long id) {
+        aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                retirar(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Buscar IDs de produtos, do mais para o menos relevante
+     * @param texto um ou mais termos; vazio não retorna nada
+     * @param limite quantidade máxima de IDs
+     */
+    public List<Long> buscar(String texto, int limite) {
+        List<String> consulta = List.copyOf(new LinkedHashSet<>(tokenizar(texto)));
+        if (consulta.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> pontuacao = null;
+            for (String termo : consulta) {
+                Map<Long, Double> doTermo = pontuar(termo);
+                if (pontuacao == null) {
+                    pontuacao = doTermo;
+                } else {
+                    // Todos os termos precisam casar: manter só a interseção
+                    pontuacao.keySet().retainAll(doTermo.keySet());
+                    pontuacao.replaceAll((id, pontos) -> pontos + doTermo.get(id));
+                }
+                if (pontuacao.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return pontuacao.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(entrada -> documentos.get(entrada.getKey()).nome()))
+                    .limit(limite)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Texto sem acentos, em minúsculas, quebrado em termos
+     */
+    static List<String> tokenizar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase();
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Candidatos do termo (prefixo + trigramas) e a melhor pontuação de cada um
+    private Map<Long, Double> pontuar(String termo) {
+        Set<Long> candidatos = new HashSet<>();
+        for (Set<Long> ids : termos.subMap(termo, true, termo + Character.MAX_VALUE, false).values()) {
+            candidatos.addAll(ids);
+        }
+        Set<String> trigramasTermo = trigramas(termo);
+        if (!trigramasTermo.isEmpty()) {
+            Map<Long, Integer> comuns = new HashMap<>();
+            for (String trigrama : trigramasTermo) {
+                for (Long id : trigramas.getOrDefault(trigrama, Set.of())) {
+                    comuns.merge(id, 1, Integer::sum);
+                }
+            }
+            int minimo = (int) Math.ceil(trigramasTermo.size() * SIMILARIDADE_MINIMA);
+            comuns.forEach((id, quantidade) -> {
+                if (quantidade >= minimo) {
+                    candidatos.add(id);
+                }
+            });
+        }
+
+        Map<Long, Double> pontuacao = new HashMap<>();
+        for (Long id : candidatos) {
+            double pontos = documentos.get(id).pontuar(termo, trigramasTermo);
+            if (pontos > 0) {
+                pontuacao.put(id, pontos);
+            }
+        }
+        return pontuacao;
+    }
+
+    private void adicionar(Produto produto) {
+        adicionar(produto.getId(), produto.getNome(), produto.getCategoria(), produto.getDescricao());
+    }
+
+    private void adicionar(Long id, String nome, String categoria, String descricao) {
+        Map<Campo, Set<String>> porCampo = Map.of(
+                Campo.NOME, new LinkedHashSet<>(tokenizar(nome)),
+                Campo.CATEGORIA, new LinkedHashSet<>(tokenizar(categoria)),
+                Campo.DESCRICAO, new LinkedHashSet<>(tokenizar(descricao)));
+        Documento documento = new Documento(nome == null ? "" : nome, porCampo);
+        documentos.put(id, documento);
+        for (String termo : documento.todosTermos()) {
+            termos.computeIfAbsent(termo, t -> new HashSet<>()).add(id);
+            for (String trigrama : trigramas(termo)) {
+                trigramas.computeIfAbsent(trigrama, t -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    private void retirar(Long id) {
+        Documento documento = documentos.remove(id);
+        if (documento == null) {
+            return;
+        }
+        for (String termo : documento.todosTermos()) {
+            removerId(termos, termo, id);
+            for (String trigrama : trigramas(termo)) {
+                removerId(trigramas, trigrama, id);
+            }
+        }
+    }
+
+    private static void removerId(Map<String, Set<Long>> indice, String chave, Long id) {
+        Set<Long> ids = indice.get(chave);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                indice.remove(chave);
+            }
+        }
+    }
+
+    private static Set<String> trigramas(String termo) {
+        if (termo.length() < 3) {
+            return Set.of();
+        }
+        Set<String> resultado = new HashSet<>();
+        for (int i = 0; i + 3 <= termo.length(); i++) {
+            resultado.add(termo.substring(i, i + 3));
+        }
+        return resultado;
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    /**
+     * Termos de um produto por campo (nunca alterado depois de indexado)
+     */
+    private record Documento(String nome, Map<Campo, Set<String>> termosPorCampo) {
+
+        Set<String> todosTermos() {
+            Set<String> todos = new HashSet<>();
+            termosPorCampo.values().forEach(todos::addAll);
+            return todos;
+        }
+
+        // Termo exato vale 1, prefixo até 0,8 (quanto mais completo, mais), trigramas até 0,5
+        double pontuar(String termo, Set<String> trigramasTermo) {
+            double melhor = 0;
+            for (Map.Entry<Campo, Set<String>> campo : termosPorCampo.entrySet()) {
+                for (String indexado : campo.getValue()) {
+                    double similaridade;
+                    if (indexado.equals(termo)) {
+                        similaridade = 1.0;
+                    } else if (indexado.startsWith(termo)) {
+                        similaridade = 0.5 + 0.3 * termo.length() / indexado.length();
+                    } else if (!trigramasTermo.isEmpty()) {
+                        Set<String> comuns = new HashSet<>(trigramas(indexado));
+                        comuns.retainAll(trigramasTermo);
+                        double fracao = (double) comuns.size() / trigramasTermo.size();
+                        similaridade = fracao >= SIMILARIDADE_MINIMA ? 0.5 * fracao : 0;
+                    } else {
+                        similaridade = 0;
+                    }
+                    melhor = Math.max(melhor, similaridade * campo.getKey().peso);
+                }
+            }
+            return melhor;
+        }
+    }
+}
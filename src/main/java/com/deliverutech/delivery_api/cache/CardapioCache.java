@@ -0,0 +1,108 @@
+package com.deliverutech.delivery_api.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import com.deliverutech.delivery_api.dto.response.ProdutoResponse;
+import com.deliverutech.delivery_api.repository.ProdutoRepository;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Cache do cardápio de cada restaurante (GET /api/restaurantes/{id}/produtos).
+ * Guarda o JSON já serializado e o ETag: acertos não consultam o banco nem serializam de novo.
+ * Deve ser invalidado sempre que um produto do restaurante for criado, alterado ou removido.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardapioCache {
+
+    private static final long TAMANHO_MAXIMO = 1_000;
+    private static final Duration EXPIRACAO = Duration.ofMinutes(30);
+
+    private final RestauranteRepository restauranteRepository;
+    private final ProdutoRepository produtoRepository;
+    private final JsonMapper jsonMapper;
+    private final Cache<Long, Cardapio> cache = Caffeine.newBuilder()
+            .maximumSize(TAMANHO_MAXIMO)
+            .expireAfterWrite(EXPIRACAO)
+            .build();
+
+    /**
+     * Buscar o cardápio do restaurante, montando-o no primeiro acesso
+     * @throws RuntimeException se o restaurante não existir
+     */
+    public Cardapio buscar(Long restauranteId) {
+        Cardapio cardapio = cache.get(restauranteId, this::carregar);
+        if (cardapio == null) {
+            throw new RuntimeException("Restaurante não encontrado");
+        }
+        return cardapio;
+    }
+
+    /**
+     * Remover o cardápio do cache. Dentro de uma transação, a remoção ocorre também após o commit
+     * para que uma leitura concorrente não recoloque o cardápio antigo.
+     */
+    public void invalidar(Long restauranteId) {
+        if (restauranteId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(restauranteId);
+                }
+            });
+        }
+        cache.invalidate(restauranteId);
+    }
+
+    // null (não armazenado) quando o restaurante não existe
+    private Cardapio carregar(Long restauranteId) {
+        if (!restauranteRepository.existsById(restauranteId)) {
+            return null;
+        }
+        log.debug("Montando cardápio do restaurante {}", restauranteId);
+        List<ProdutoResponse> produtos = produtoRepository.findByRestauranteId(restauranteId).stream()
+                .map(ProdutoResponse::de)
+                .toList();
+        byte[] json = jsonMapper.writeValueAsBytes(produtos);
+        return new Cardapio(json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+
+    /**
+     * Cardápio serializado (imutável: o array nunca é alterado depois de criado)
+     * @param etag ETag forte, já entre aspas
+     */
+    public record Cardapio(byte[] json, String etag) {
+
+        public boolean corresponde(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String valor : ifNoneMatch.split(",")) {
+                String candidato = valor.trim();
+                if (candidato.startsWith("W/")) {
+                    candidato = candidato.substring(2);
+                }
+                if (candidato.equals(etag) || candidato.equals("*")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.deliverutech.delivery_api.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverutech.delivery_api.dto.request.PedidoRequest;
+import com.deliverutech.delivery_api.dto.response.PedidoResponse;
+import com.deliverutech.delivery_api.exception.IdempotenciaConflitoException;
+import com.deliverutech.delivery_api.model.PedidoIdempotencia;
+import com.deliverutech.delivery_api.repository.PedidoIdempotenciaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Respostas de criação de pedido por Idempotency-Key. As chaves recentes ficam num cache
+ * em memória limitado; as demais são lidas da tabela pedido_idempotencia, gravada na mesma
+ * transação do pedido. Uma repetição devolve a resposta original sem tocar nas tabelas de pedido.
+ * Cada resposta guarda o hash do corpo que a criou: a mesma chave com outro corpo é rejeitada.
+ */
+@Slf4j
+@Component
+public class PedidoIdempotenciaCache {
+
+    static final int TAMANHO_MAXIMO_CHAVE = 100;
+
+    private final PedidoIdempotenciaRepository idempotenciaRepository;
+    private final JsonMapper jsonMapper;
+    private final Duration validade;
+    private final Cache<String, Registro> cache;
+    // Uma criação por chave por vez nesta instância; entre instâncias vale a chave primária da tabela
+    private final Map<String, ReentrantLock> emAndamento = new ConcurrentHashMap<>();
+
+    public PedidoIdempotenciaCache(PedidoIdempotenciaRepository idempotenciaRepository,
+                                   JsonMapper jsonMapper,
+                                   @Value("${pedido.idempotencia.capacidade:10000}") long capacidade,
+                                   @Value("${pedido.idempotencia.validade:24h}") Duration validade) {
+        this.idempotenciaRepository = idempotenciaRepository;
+        this.jsonMapper = jsonMapper;
+        this.validade = validade;
+        // Vence em criadoEm + validade, como no banco: uma chave lida da tabela perto do fim
+        // da validade não ganha outra validade inteira em memória
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(capacidade)
+                .expireAfter(Expiry.writing((String chave, Registro registro) -> restante(registro)))
+                .build();
+    }
+
+    /**
+     * Resultado da criação: a resposta e se ela veio de uma requisição anterior com a mesma chave
+     */
+    public record Resultado(PedidoResponse resposta, boolean repetido) {
+    }
+
+    /**
+     * Resposta guardada e o hash da requisição que a criou (null para chaves anteriores ao hash)
+     */
+    private record Registro(String hash, PedidoResponse resposta, LocalDateTime criadoEm) {
+    }
+
+    /**
+     * Criar o pedido uma única vez por chave
+     * @param criar cria o pedido e chama registrar(chave, requisicao, resposta) na mesma transação
+     * @throws IllegalArgumentException se a chave for vazia ou longa demais
+     * @throws IdempotenciaConflitoException se a chave já foi usada com outra requisição
+     */
+    public Resultado executar(String chave, PedidoRequest requisicao, Supplier<PedidoResponse> criar) {
+        validar(chave);
+        String hash = hash(requisicao);
+        Optional<PedidoResponse> anterior = buscar(chave, hash);
+        if (anterior.isPresent()) {
+            return new Resultado(anterior.get(), true);
+        }
+
+        ReentrantLock trava = emAndamento.computeIfAbsent(chave, c -> new ReentrantLock());
+        trava.lock();
+        try {
+            // Quem esperou pela trava encontra a resposta de quem criou
+            anterior = buscar(chave, hash);
+            if (anterior.isPresent()) {
+                return new Resultado(anterior.get(), true);
+            }
+            return new Resultado(criar.get(), false);
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância gravou a mesma chave primeiro: a transação daqui foi desfeita
+            return buscar(chave, hash).map(resposta -> new Resultado(resposta, true)).orElseThrow(() -> e);
+        } finally {
+            trava.unlock();
+            emAndamento.remove(chave, trava);
+        }
+    }
+
+    /**
+     * Resposta já registrada para a chave (memória, depois banco)
+     * @throws IdempotenciaConflitoException se ela foi criada por uma requisição com outro hash
+     */
+    public Optional<PedidoResponse> buscar(String chave, String hash) {
+        Registro registro = cache.get(chave, this::carregar);
+        if (registro == null) {
+            return Optional.empty();
+        }
+        if (registro.hash() != null && !registro.hash().equals(hash)) {
+            throw new IdempotenciaConflitoException(chave);
+        }
+        return Optional.of(registro.resposta());
+    }
+
+    /**
+     * Guardar a resposta da chave. O INSERT acompanha a transação do pedido;
+     * o cache só recebe a resposta após o commit.
+     */
+    public void registrar(String chave, PedidoRequest requisicao, PedidoResponse resposta) {
+        Registro registro = new Registro(hash(requisicao), resposta, LocalDateTime.now());
+        // Chave vencida que a limpeza ainda não removeu: liberar para o novo pedido
+        idempotenciaRepository.excluirSeCriadaAntesDe(chave, registro.criadoEm().minus(validade));
+        idempotenciaRepository.save(new PedidoIdempotencia(chave, resposta.getId(), registro.hash(),
+                jsonMapper.writeValueAsString(resposta), registro.criadoEm()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(chave, registro);
+                }
+            });
+        } else {
+            cache.put(chave, registro);
+        }
+    }
+
+    /**
+     * Remover do banco as chaves vencidas
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${pedido.idempotencia.intervalo-limpeza:1h}")
+    public void limpar() {
+        int removidas = idempotenciaRepository.excluirCriadasAntesDe(LocalDateTime.now().minus(validade));
+        if (removidas > 0) {
+            log.info("{} chaves de idempotência vencidas removidas", removidas);
+        }
+    }
+
+    // Só leitura: chaves vencidas são ignoradas aqui e removidas por limpar() ou registrar()
+    private Registro carregar(String chave) {
+        return idempotenciaRepository.findById(chave)
+                .filter(registro -> registro.getCriadoEm().isAfter(LocalDateTime.now().minus(validade)))
+                .map(registro -> new Registro(registro.getHashRequisicao(),
+                        jsonMapper.readValue(registro.getResposta(), PedidoResponse.class), registro.getCriadoEm()))
+                .orElse(null);
+    }
+
+    private Duration restante(Registro registro) {
+        Duration restante = Duration.between(LocalDateTime.now(), registro.criadoEm().plus(validade));
+        return restante.isNegative() ? Duration.ZERO : restante;
+    }
+
+    // SHA-256 do JSON da requisição já desserializada: espaços e ordem dos campos no corpo não contam
+    private String hash(PedidoRequest requisicao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(jsonMapper.writeValueAsBytes(requisicao)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static void validar(String chave) {
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.deliverutech.delivery_api.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.repository.ProdutoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache em memória de preço e disponibilidade de produtos, usado nas cotações.
+ * Só consulta o banco para os IDs ausentes (uma única consulta por lote).
+ * Deve ser invalidado sempre que preço ou disponibilidade de um produto mudar.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProdutoPrecoCache {
+
+    private static final long TAMANHO_MAXIMO = 10_000;
+    private static final Duration EXPIRACAO = Duration.ofMinutes(30);
+
+    private final ProdutoRepository produtoRepository;
+    private final Cache<Long, PrecoProduto> cache = Caffeine.newBuilder()
+            .maximumSize(TAMANHO_MAXIMO)
+            .expireAfterWrite(EXPIRACAO)
+            .build();
+
+    /**
+     * Buscar preço/disponibilidade de vários produtos.
+     * IDs inexistentes não aparecem no mapa retornado.
+     */
+    public Map<Long, PrecoProduto> buscarTodos(Collection<Long> ids) {
+        return cache.getAll(ids, this::carregar);
+    }
+
+    /**
+     * Remover o produto do cache. Dentro de uma transação, a remoção ocorre após o commit
+     * para que uma leitura concorrente não recoloque o valor antigo.
+     */
+    public void invalidar(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+        cache.invalidate(id);
+    }
+
+    private Map<Long, PrecoProduto> carregar(Set<? extends Long> ids) {
+        log.debug("Carregando preços do banco para os produtos: {}", ids);
+        return produtoRepository.findAllById(List.copyOf(ids)).stream()
+                .map(PrecoProduto::de)
+                .collect(Collectors.toMap(PrecoProduto::id, Function.identity()));
+    }
+
+    /**
+     * Dados do produto necessários para cotação (imutável)
+     */
+    public record PrecoProduto(Long id, String nome, BigDecimal preco, boolean disponivel) {
+
+        static PrecoProduto de(Produto produto) {
+            BigDecimal preco = produto.getPreco() == null ? BigDecimal.ZERO : BigDecimal.valueOf(produto.getPreco());
+            return new PrecoProduto(produto.getId(), produto.getNome(), preco, produto.isDisponivel());
+        }
+    }
+}
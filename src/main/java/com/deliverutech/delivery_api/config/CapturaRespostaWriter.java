@@ -0,0 +1,220 @@
+package com.deliverutech.delivery_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Grava as capturas do ResponseCaptureFilter fora da thread da requisição.
+ * A fila é limitada: quando cheia, a captura é descartada (a requisição nunca espera).
+ * Um único arquivo é mantido aberto em modo append e rotacionado ao atingir o tamanho máximo.
+ */
+@Slf4j
+public class CapturaRespostaWriter implements AutoCloseable {
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final DateTimeFormatter FORMATO_ROTACAO = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final int TAMANHO_LOTE = 256;
+
+    private final Path arquivo;
+    private final long tamanhoMaximoArquivo;
+    private final int arquivosMantidos;
+    private final BlockingQueue<Captura> fila;
+    private final AtomicLong descartadas = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final Thread gravador;
+
+    private volatile boolean ativo = true;
+    private FileChannel canal;
+    private BufferedWriter writer;
+
+    public CapturaRespostaWriter(Path arquivo, int capacidadeFila, long tamanhoMaximoArquivo, int arquivosMantidos) {
+        this.arquivo = arquivo;
+        this.tamanhoMaximoArquivo = tamanhoMaximoArquivo;
+        this.arquivosMantidos = arquivosMantidos;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+
+        this.gravador = new Thread(this::executar, "captura-resposta-writer");
+        this.gravador.setDaemon(true);
+        this.gravador.start();
+    }
+
+    /**
+     * Enfileirar uma captura sem bloquear
+     * @return false se a fila estava cheia e a captura foi descartada
+     */
+    public boolean enfileirar(Captura captura) {
+        if (fila.offer(captura)) {
+            return true;
+        }
+        long total = descartadas.incrementAndGet();
+        if (total == 1 || total % 1000 == 0) {
+            log.warn("Fila de captura cheia - {} capturas descartadas até agora", total);
+        }
+        return false;
+    }
+
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    @Override
+    public void close() {
+        ativo = false;
+        gravador.interrupt();
+        try {
+            gravador.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executar() {
+        List<Captura> lote = new ArrayList<>(TAMANHO_LOTE);
+        try {
+            while (ativo || !fila.isEmpty()) {
+                Captura primeira;
+                try {
+                    primeira = fila.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // close(): esvaziar o que restou na fila e sair
+                    ativo = false;
+                    continue;
+                }
+                if (primeira == null) {
+                    continue;
+                }
+                lote.add(primeira);
+                fila.drainTo(lote, TAMANHO_LOTE - 1);
+                gravarLote(lote);
+                lote.clear();
+            }
+        } finally {
+            fecharArquivo();
+        }
+    }
+
+    private void gravarLote(List<Captura> lote) {
+        try {
+            abrirArquivoSeNecessario();
+            for (Captura captura : lote) {
+                escrever(captura);
+            }
+            writer.flush();
+            if (canal.size() >= tamanhoMaximoArquivo) {
+                rotacionar();
+            }
+        } catch (IOException e) {
+            log.error("Erro ao gravar capturas em {}: {}", arquivo, e.getMessage());
+            fecharArquivo();
+        }
+    }
+
+    private void escrever(Captura captura) throws IOException {
+        writer.write("=== ENTREGA - TESTE DE ENDPOINT ===\n");
+        writer.write("Data/Hora: " + captura.dataHora().format(FORMATO_DATA) + "\n");
+        writer.write("Método: " + captura.metodo() + "\n");
+        writer.write("URL Completa: " + captura.url() + "\n");
+        writer.write("Status HTTP: " + captura.status() + "\n");
+        writer.write("Content-Type: " + captura.contentType() + "\n");
+
+        if (captura.corpoRequisicao().length > 0) {
+            writer.write("\n=== DADOS ENVIADOS ===\n");
+            writer.write(formatar(captura.corpoRequisicao()));
+        }
+
+        writer.write("\n\n=== RESPOSTA REAL ===\n");
+        if (captura.corpoResposta().length > 0) {
+            writer.write(formatar(captura.corpoResposta()));
+        } else {
+            writer.write("(Resposta vazia)");
+        }
+        writer.write("\n\n");
+    }
+
+    private String formatar(byte[] corpo) {
+        try {
+            Object json = objectMapper.readValue(corpo, Object.class);
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(json);
+        } catch (Exception e) {
+            // Não é JSON (ou foi truncado): gravar como texto
+            return new String(corpo, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void abrirArquivoSeNecessario() throws IOException {
+        if (writer != null) {
+            return;
+        }
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(canal), StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private void rotacionar() throws IOException {
+        fecharArquivo();
+        String nome = arquivo.getFileName().toString();
+        Path rotacionado = arquivo.resolveSibling(nome + "." + LocalDateTime.now().format(FORMATO_ROTACAO));
+        Files.move(arquivo, rotacionado, StandardCopyOption.REPLACE_EXISTING);
+        log.info("Arquivo de capturas rotacionado: {}", rotacionado);
+        removerAntigos(nome);
+    }
+
+    private void removerAntigos(String nome) throws IOException {
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            List<Path> rotacionados = arquivos
+                    .filter(p -> p.getFileName().toString().startsWith(nome + "."))
+                    .sorted()
+                    .toList();
+            for (int i = 0; i < rotacionados.size() - arquivosMantidos; i++) {
+                Files.deleteIfExists(rotacionados.get(i));
+            }
+        }
+    }
+
+    private void fecharArquivo() {
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            log.warn("Erro ao fechar arquivo de capturas: {}", e.getMessage());
+        } finally {
+            writer = null;
+            canal = null;
+        }
+    }
+
+    /**
+     * Dados de uma requisição capturada (corpos já truncados e copiados)
+     */
+    public record Captura(LocalDateTime dataHora, String metodo, String url, int status,
+                          String contentType, byte[] corpoRequisicao, byte[] corpoResposta) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.deliverutech.delivery_api.config;
 
+import com.deliverutech.delivery_api.geo.CepCoordenadas;
 import com.deliverutech.delivery_api.model.*;
 import com.deliverutech.delivery_api.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +26,9 @@ public class DataLoader implements CommandLineRunner {
     @Autowired
     private PedidoRepository pedidoRepository;
 
+    @Autowired
+    private CepCoordenadas cepCoordenadas;
+
     @Override
     public void run(String... args) throws Exception {
         System.out.println("=== INICIANDO CARGA DE DADOS DE TESTE ===");
@@ -97,6 +101,7 @@ private void inserirRestaurantes() {
     restaurante1.setTelefone("1133333333");
     restaurante1.setTaxaEntrega(new BigDecimal("3.50"));
     restaurante1.setAtivo(true);
+    localizar(restaurante1, "01310-100");
 
     Restaurante restaurante2 = new Restaurante();
     restaurante2.setNome("Burger King");
@@ -104,6 +109,7 @@ private void inserirRestaurantes() {
     restaurante2.setTelefone("1144444444");
     restaurante2.setTaxaEntrega(new BigDecimal("5.00"));
     restaurante2.setAtivo(true);
+    localizar(restaurante2, "04538-133");
 
     Restaurante restaurante3 = new Restaurante();
     restaurante3.setNome("Sushi House");
@@ -111,6 +117,7 @@ private void inserirRestaurantes() {
     restaurante3.setTelefone("1155555555");
     restaurante3.setTaxaEntrega(new BigDecimal("4.00"));
     restaurante3.setAtivo(true);
+    localizar(restaurante3, "01504-001");
 
     Restaurante restaurante4 = new Restaurante();
     restaurante4.setNome("Gyros Athenas");
@@ -118,6 +125,7 @@ private void inserirRestaurantes() {
     restaurante4.setTelefone("1166666666");
     restaurante4.setTaxaEntrega(new BigDecimal("6.50"));
     restaurante4.setAtivo(true);
+    localizar(restaurante4, "05415-030");
 
     Restaurante restaurante5 = new Restaurante();
     restaurante5.setNome("Chiparia do Porto");
@@ -125,6 +133,7 @@ private void inserirRestaurantes() {
     restaurante5.setTelefone("1177777777");
     restaurante5.setTaxaEntrega(new BigDecimal("7.00"));
     restaurante5.setAtivo(true);
+    localizar(restaurante5, "11010-000");
 
     restauranteRepository.saveAll(Arrays.asList(restaurante1, restaurante2, restaurante3, restaurante4, restaurante5));
     System.out.println("✓ 5 restaurantes inseridos");
@@ -133,6 +142,14 @@ private void inserirRestaurantes() {
     inserirProdutos();
 }
 
+private void localizar(Restaurante restaurante, String cep) {
+    restaurante.setCep(cep);
+    cepCoordenadas.localizar(cep).ifPresent(coordenada -> {
+        restaurante.setLatitude(coordenada.latitude());
+        restaurante.setLongitude(coordenada.longitude());
+    });
+}
+
 private void inserirProdutos() {
     System.out.println("--- Inserindo Produtos ---");
 
@@ -1,5 +1,9 @@
 package com.deliverutech.delivery_api.config;
 
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,12 +12,30 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     @Bean
-    public FilterRegistrationBean<ResponseCaptureFilter> responseCaptureFilter() {
+    public CapturaRespostaWriter capturaRespostaWriter(
+            @Value("${captura.arquivo:entregaveis/capturas.log}") String arquivo,
+            @Value("${captura.capacidade-fila:1000}") int capacidadeFila,
+            @Value("${captura.tamanho-maximo-arquivo:10485760}") long tamanhoMaximoArquivo,
+            @Value("${captura.arquivos-mantidos:5}") int arquivosMantidos) {
+        return new CapturaRespostaWriter(Path.of(arquivo), capacidadeFila, tamanhoMaximoArquivo, arquivosMantidos);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCaptureFilter> responseCaptureFilter(
+            CapturaRespostaWriter capturaRespostaWriter,
+            @Value("${captura.habilitada:true}") boolean habilitada,
+            @Value("${captura.caminhos:/api/**}") List<String> caminhos,
+            @Value("${captura.caminhos-ignorados:/api/**/eventos,/api/exportacoes/**,/api/importacoes/**}") List<String> caminhosIgnorados,
+            @Value("${captura.status:}") List<String> status,
+            @Value("${captura.taxa-amostragem:1.0}") double taxaAmostragem,
+            @Value("${captura.tamanho-maximo-corpo:65536}") int tamanhoMaximoCorpo) {
         FilterRegistrationBean<ResponseCaptureFilter> registrationBean = new FilterRegistrationBean<>();
         
-        registrationBean.setFilter(new ResponseCaptureFilter());
+        registrationBean.setFilter(new ResponseCaptureFilter(
+                capturaRespostaWriter, caminhos, caminhosIgnorados, status, taxaAmostragem, tamanhoMaximoCorpo));
         registrationBean.addUrlPatterns("/api/*");
         registrationBean.setOrder(1);
+        registrationBean.setEnabled(habilitada);
         
         return registrationBean;
     }
@@ -1,26 +1,53 @@
 package com.deliverutech.delivery_api.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.deliverutech.delivery_api.config.CapturaRespostaWriter.Captura;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Captura requisição/resposta das APIs e entrega ao CapturaRespostaWriter.
+ * Na thread da requisição só copia os corpos (truncados); formatação e gravação
+ * acontecem em segundo plano. Filtra por caminho, status e taxa de amostragem.
+ */
 public class ResponseCaptureFilter implements Filter {
 
-    private final ObjectMapper objectMapper;
-
-    public ResponseCaptureFilter() {
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+    private final CapturaRespostaWriter writer;
+    private final List<String> caminhos;
+    private final List<String> caminhosIgnorados;
+    private final boolean[] statusCapturados;
+    private final double taxaAmostragem;
+    private final int tamanhoMaximoCorpo;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * @param caminhos padrões Ant dos caminhos capturados (ex.: /api/**)
+     * @param caminhosIgnorados padrões Ant nunca capturados (ex.: streams SSE, que não podem ser bufferizados)
+     * @param status códigos (ex.: 201) ou faixas (ex.: 4xx, 5xx); vazio captura todos
+     * @param taxaAmostragem fração das requisições capturadas, entre 0 e 1
+     * @param tamanhoMaximoCorpo bytes guardados de cada corpo
+     */
+    public ResponseCaptureFilter(CapturaRespostaWriter writer, Collection<String> caminhos,
+                                 Collection<String> caminhosIgnorados, Collection<String> status,
+                                 double taxaAmostragem, int tamanhoMaximoCorpo) {
+        this.writer = writer;
+        this.caminhos = List.copyOf(caminhos);
+        this.caminhosIgnorados = caminhosIgnorados.stream().filter(c -> !c.isBlank()).toList();
+        this.statusCapturados = interpretarStatus(status);
+        this.taxaAmostragem = taxaAmostragem;
+        this.tamanhoMaximoCorpo = tamanhoMaximoCorpo;
     }
 
     @Override
@@ -30,22 +57,24 @@ public class ResponseCaptureFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        // ✅ Só processar APIs (não arquivos estáticos)
-        if (!httpRequest.getRequestURI().startsWith("/api/")) {
+        // ✅ Só processar caminhos configurados, respeitando a amostragem
+        if (!deveCapturar(httpRequest)) {
             chain.doFilter(request, response);
             return;
         }
 
         // ✅ Wrapper para capturar request e response
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(httpRequest, 1024 * 1024);
+        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(httpRequest, tamanhoMaximoCorpo);
         ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(httpResponse);
 
         try {
             // ✅ Executar a requisição
             chain.doFilter(requestWrapper, responseWrapper);
 
-            // ✅ Capturar e salvar a resposta
-            capturarResposta(requestWrapper, responseWrapper);
+            // ✅ Enfileirar a captura (gravação fora da thread da requisição)
+            if (statusCapturado(responseWrapper.getStatus())) {
+                writer.enfileirar(capturar(requestWrapper, responseWrapper));
+            }
 
         } finally {
             // ✅ IMPORTANTE: Copiar response de volta para o cliente
@@ -53,82 +82,71 @@ public class ResponseCaptureFilter implements Filter {
         }
     }
 
-    private void capturarResposta(ContentCachingRequestWrapper request,
-                                 ContentCachingResponseWrapper response) {
-        try {
-            // ✅ Criar diretório se não existir
-            File dir = new File("entregaveis");
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
+    private boolean deveCapturar(HttpServletRequest request) {
+        if (taxaAmostragem <= 0) {
+            return false;
+        }
+        String caminho = request.getRequestURI().substring(request.getContextPath().length());
+        return corresponde(caminhos, caminho) && !corresponde(caminhosIgnorados, caminho)
+                && (taxaAmostragem >= 1 || ThreadLocalRandom.current().nextDouble() < taxaAmostragem);
+    }
 
-            // ✅ Gerar nome do arquivo
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String method = request.getMethod();
-            String endpoint = request.getRequestURI()
-                    .replace("/api/", "")
-                    .replace("/", "_");
-            
-            String fileName = String.format("%s_%s_%s.txt", method, endpoint, timestamp);
-
-            // ✅ Capturar dados da requisição
-            String queryString = request.getQueryString();
-            String fullUrl = request.getRequestURL().toString();
-            if (queryString != null) {
-                fullUrl += "?" + queryString;
+    private boolean corresponde(List<String> padroes, String caminho) {
+        for (String padrao : padroes) {
+            if (pathMatcher.match(padrao, caminho)) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            // ✅ Capturar body da requisição
-            String requestBody = new String(request.getContentAsByteArray());
+    private boolean statusCapturado(int status) {
+        return status >= 0 && status < statusCapturados.length && statusCapturados[status];
+    }
 
-            // ✅ Capturar body da resposta (AQUI ESTÁ A MAGIA!)
-            String responseBody = new String(response.getContentAsByteArray());
+    private Captura capturar(ContentCachingRequestWrapper request, ContentCachingResponseWrapper response)
+            throws IOException {
+        String url = request.getRequestURL().toString();
+        if (request.getQueryString() != null) {
+            url += "?" + request.getQueryString();
+        }
 
-            // ✅ Preparar conteúdo do arquivo
-            StringBuilder content = new StringBuilder();
-            content.append("=== ENTREGA - TESTE DE ENDPOINT ===\n");
-            content.append("Data/Hora: ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"))).append("\n");
-            content.append("Método: ").append(method).append("\n");
-            content.append("URL Completa: ").append(fullUrl).append("\n");
-            content.append("Status HTTP: ").append(response.getStatus()).append("\n");
-            content.append("Content-Type: ").append(response.getContentType()).append("\n");
+        // Request: o wrapper já limita o cache a tamanhoMaximoCorpo
+        byte[] corpoRequisicao = request.getContentAsByteArray();
+        byte[] corpoResposta;
+        try (InputStream conteudo = response.getContentInputStream()) {
+            corpoResposta = conteudo.readNBytes(tamanhoMaximoCorpo);
+        }
 
-            // ✅ ADICIONAR: Request Body (se houver)
-            if (!requestBody.isEmpty()) {
-                content.append("\n=== DADOS ENVIADOS ===\n");
-                try {
-                    Object jsonRequest = objectMapper.readValue(requestBody, Object.class);
-                    String formattedRequest = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonRequest);
-                    content.append(formattedRequest);
-                } catch (Exception e) {
-                    content.append(requestBody);
-                }
-            }
+        return new Captura(LocalDateTime.now(), request.getMethod(), url, response.getStatus(),
+                response.getContentType(), corpoRequisicao, corpoResposta);
+    }
 
-            // ✅ ADICIONAR: Response Body REAL
-            content.append("\n\n=== RESPOSTA REAL ===\n");
-            if (!responseBody.isEmpty()) {
-                try {
-                    Object jsonResponse = objectMapper.readValue(responseBody, Object.class);
-                    String formattedResponse = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonResponse);
-                    content.append(formattedResponse);
-                } catch (Exception e) {
-                    content.append(responseBody);
+    private static boolean[] interpretarStatus(Collection<String> status) {
+        boolean[] capturados = new boolean[600];
+        if (status == null || status.stream().allMatch(String::isBlank)) {
+            Arrays.fill(capturados, true);
+            return capturados;
+        }
+        for (String valor : status) {
+            String codigo = valor.trim().toLowerCase();
+            if (codigo.isEmpty()) {
+                continue;
+            }
+            if (codigo.length() == 3 && codigo.endsWith("xx")) {
+                int inicio = Character.digit(codigo.charAt(0), 10) * 100;
+                if (inicio < 100 || inicio > 500) {
+                    throw new IllegalArgumentException("Faixa de status inválida: " + valor);
                 }
+                Arrays.fill(capturados, inicio, inicio + 100, true);
             } else {
-                content.append("(Resposta vazia)");
-            }
-
-            // ✅ Salvar arquivo
-            try (FileWriter writer = new FileWriter(new File(dir, fileName))) {
-                writer.write(content.toString());
+                try {
+                    capturados[Integer.parseInt(codigo)] = true;
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    throw new IllegalArgumentException("Status inválido: " + valor);
+                }
             }
-
-            // ✅ Log no console
-            System.out.println("📄 Resposta completa salva: entregaveis/" + fileName);
-
-        } catch (Exception e) {
-            System.err.println("❌ Erro ao salvar resposta: " + e.getMessage());
         }
+        return capturados;
     }
 }
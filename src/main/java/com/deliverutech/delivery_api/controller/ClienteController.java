@@ -1,9 +1,11 @@
 package com.deliverutech.delivery_api.controller;
 
 import com.deliverutech.delivery_api.dto.request.ClienteRequest;
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
 import com.deliverutech.delivery_api.model.Cliente;
 import com.deliverutech.delivery_api.service.ClienteService;
 import com.deliverutech.delivery_api.dto.response.ApiResponseWrapper;
+import com.deliverutech.delivery_api.dto.response.ClienteResponse;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +34,7 @@ public class ClienteController {
         try {
             log.info("Recebida solicitação para cadastrar cliente: {}", clienteRequest.getEmail());
             Cliente clienteSalvo = clienteService.cadastrar(clienteRequest);
-            return ResponseEntity.status(HttpStatus.CREATED).body(clienteSalvo);
+            return ResponseEntity.status(HttpStatus.CREATED).body(ClienteResponse.de(clienteSalvo));
         } catch (IllegalArgumentException e) {
             log.warn("Erro de validação ao cadastrar cliente: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Erro: " + e.getMessage());
@@ -44,21 +46,30 @@ public class ClienteController {
     }
 
     // Listar todos os clientes ativos
+    // Com 'cursor', 'tamanho', 'ordenacao' ou 'contarTotal' informado, responde no modo paginado por cursor (keyset)
     @GetMapping
-    public ResponseEntity<List<Cliente>> listar() {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer tamanho,
+                                    @RequestParam(required = false) String ordenacao,
+                                    @RequestParam(required = false) Boolean contarTotal) {
         log.info("Recebida solicitação para listar clientes ativos");
+        if (cursor != null || tamanho != null || ordenacao != null || contarTotal != null) {
+            ListagemCursor posicao = cursor == null || cursor.isBlank() ? null : ListagemCursor.decodificar(cursor);
+            return ResponseEntity.ok(clienteService.listarAtivosPaginado(ordenacao, posicao, tamanho,
+                    Boolean.TRUE.equals(contarTotal)).map(ClienteResponse::de));
+        }
         List<Cliente> clientes = clienteService.listarAtivos();
-        return ResponseEntity.ok(clientes);
+        return ResponseEntity.ok(clientes.stream().map(ClienteResponse::de).toList());
     }
 
     // Listar cliente por ID
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponseWrapper<Cliente>> buscarPorId(@PathVariable Long id) {
+    public ResponseEntity<ApiResponseWrapper<ClienteResponse>> buscarPorId(@PathVariable Long id) {
         log.info("Recebida solicitação para buscar cliente por ID: {}", id);
         Optional<Cliente> cliente = clienteService.buscarPorId(id);
         
         if (cliente.isPresent()) {
-            return ResponseEntity.ok(ApiResponseWrapper.success(cliente.get(), "Cliente encontrado"));
+            return ResponseEntity.ok(ApiResponseWrapper.success(ClienteResponse.de(cliente.get()), "Cliente encontrado"));
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ApiResponseWrapper.error("Cliente não encontrado."));
@@ -72,7 +83,7 @@ public class ClienteController {
         Optional<Cliente> cliente = clienteService.buscarPorEmail(email);
         
         if (cliente.isPresent()) {
-            return ResponseEntity.ok(cliente.get());
+            return ResponseEntity.ok(ClienteResponse.de(cliente.get()));
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -80,10 +91,10 @@ public class ClienteController {
 
     // Buscar clientes por nome
     @GetMapping("/buscar")
-    public ResponseEntity<List<Cliente>> buscarPorNome(@RequestParam String nome) {
+    public ResponseEntity<List<ClienteResponse>> buscarPorNome(@RequestParam String nome) {
         log.info("Recebida solicitação para buscar clientes por nome: {}", nome);
         List<Cliente> clientes = clienteService.buscarPorNome(nome);
-        return ResponseEntity.ok(clientes);
+        return ResponseEntity.ok(clientes.stream().map(ClienteResponse::de).toList());
     }
 
     // Atualizar dados do cliente
@@ -92,7 +103,7 @@ public class ClienteController {
         try {
             log.info("Recebida solicitação para atualizar cliente: {}", id);
             Cliente clienteAtualizado = clienteService.atualizar(id, clienteRequest);
-            return ResponseEntity.ok(clienteAtualizado);
+            return ResponseEntity.ok(ClienteResponse.de(clienteAtualizado));
         } catch (IllegalArgumentException e) {
             log.warn("Erro de validação ao atualizar cliente: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Erro: " + e.getMessage());
@@ -131,7 +142,7 @@ public class ClienteController {
             return ResponseEntity.ok()
                 .body(Map.of(
                     "message", "Cliente " + status + " com sucesso.", 
-                    "cliente", clienteAtualizado
+                    "cliente", ClienteResponse.de(clienteAtualizado)
                 ));
 
         } catch (IllegalArgumentException e) {
@@ -0,0 +1,83 @@
+package com.deliverutech.delivery_api.controller;
+
+import com.deliverutech.delivery_api.exportacao.FormatoExportacao;
+import com.deliverutech.delivery_api.service.ExportacaoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Controller responsável pelas exportações completas em NDJSON ou CSV.
+ * A resposta é gravada em stream (thread assíncrona), sem montar o resultado em memória;
+ * a compressão gzip fica a cargo do servidor (Accept-Encoding).
+ */
+@RestController
+@RequestMapping("/api/exportacoes")
+@RequiredArgsConstructor
+public class ExportacaoController {
+
+    private final ExportacaoService exportacaoService;
+
+    /**
+     * Exportação de pedidos com itens
+     * GET /api/exportacoes/pedidos?formato=ndjson|csv
+     */
+    @GetMapping("/pedidos")
+    public ResponseEntity<StreamingResponseBody> pedidos(
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        return exportacao("pedidos", formatoExportacao, saida ->
+                exportacaoService.exportarPedidos(dataInicio, dataFim, formatoExportacao, saida));
+    }
+
+    /**
+     * Exportação de vendas por restaurante
+     * GET /api/exportacoes/vendas-por-restaurante?formato=ndjson|csv
+     */
+    @GetMapping("/vendas-por-restaurante")
+    public ResponseEntity<StreamingResponseBody> vendasPorRestaurante(
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        return exportacao("vendas-por-restaurante", formatoExportacao, saida ->
+                exportacaoService.exportarVendasPorRestaurante(dataInicio, dataFim, formatoExportacao, saida));
+    }
+
+    /**
+     * Exportação do ranking completo de produtos vendidos
+     * GET /api/exportacoes/produtos-mais-vendidos?formato=ndjson|csv
+     */
+    @GetMapping("/produtos-mais-vendidos")
+    public ResponseEntity<StreamingResponseBody> produtosMaisVendidos(
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        return exportacao("produtos-mais-vendidos", formatoExportacao, saida ->
+                exportacaoService.exportarProdutosMaisVendidos(dataInicio, dataFim, formatoExportacao, saida));
+    }
+
+    // O serviço roda dentro do corpo: a transação (e o cursor) vivem na thread que grava a resposta
+    private static ResponseEntity<StreamingResponseBody> exportacao(String nome, FormatoExportacao formato,
+                                                                    StreamingResponseBody corpo) {
+        ContentDisposition disposicao = ContentDisposition.attachment()
+                .filename(nome + "." + formato.getExtensao())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposicao.toString())
+                .body(corpo);
+    }
+}
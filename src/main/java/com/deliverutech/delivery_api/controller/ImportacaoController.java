@@ -0,0 +1,37 @@
+package com.deliverutech.delivery_api.controller;
+
+import com.deliverutech.delivery_api.dto.response.ImportacaoResponse;
+import com.deliverutech.delivery_api.importacao.FormatoImportacao;
+import com.deliverutech.delivery_api.service.ImportacaoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Controller responsável pelas importações em lote em NDJSON ou CSV.
+ * O corpo da requisição é o próprio arquivo, lido em stream enquanto é gravado
+ * (sem multipart e sem carregar o arquivo em memória).
+ */
+@RestController
+@RequestMapping("/api/importacoes")
+@RequiredArgsConstructor
+public class ImportacaoController {
+
+    private final ImportacaoService importacaoService;
+
+    /**
+     * Importação do cardápio de um restaurante
+     * POST /api/importacoes/produtos?restauranteId=1&formato=ndjson|csv
+     */
+    // Corpo form-urlencoded seria consumido como parâmetros pelo servlet: só tipos de arquivo
+    @PostMapping(value = "/produtos", consumes = {"text/csv", "application/x-ndjson", "text/plain",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ImportacaoResponse produtos(@RequestParam Long restauranteId,
+                                       @RequestParam(defaultValue = "ndjson") String formato,
+                                       InputStream corpo) throws IOException {
+        return importacaoService.importarProdutos(restauranteId, FormatoImportacao.de(formato), corpo);
+    }
+}
@@ -1,25 +1,29 @@
 package com.deliverutech.delivery_api.controller;
 
+import com.deliverutech.delivery_api.cache.PedidoIdempotenciaCache;
+import com.deliverutech.delivery_api.dto.request.ItensLoteRequest;
+import com.deliverutech.delivery_api.dto.request.PedidoCursor;
 import com.deliverutech.delivery_api.dto.request.PedidoRequest;
 import com.deliverutech.delivery_api.dto.request.StatusUpdateRequest;
-import com.deliverutech.delivery_api.dto.response.ItemPedidoResponse;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
 import com.deliverutech.delivery_api.dto.response.PedidoResponse;
+import com.deliverutech.delivery_api.evento.PedidoEventosEmissor;
+import com.deliverutech.delivery_api.evento.PedidoStatusEvento;
 import com.deliverutech.delivery_api.model.*;
-import com.deliverutech.delivery_api.service.ClienteService;
 import com.deliverutech.delivery_api.service.PedidoService;
 import com.deliverutech.delivery_api.service.ProdutoService;
 import com.deliverutech.delivery_api.service.RestauranteService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.Arrays;
 import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
@@ -30,46 +34,31 @@ import java.time.LocalDate;
 public class PedidoController {
 
     private final PedidoService pedidoService;
-    private final ClienteService clienteService;
     private final RestauranteService restauranteService;
     private final ProdutoService produtoService;
-    private final ModelMapper modelMapper = new ModelMapper();
+    private final PedidoEventosEmissor pedidoEventosEmissor;
+    private final PedidoIdempotenciaCache pedidoIdempotenciaCache;
 
-    {
-        // Ignorar o campo 'itens' ao mapear Pedido -> PedidoResponse
-        modelMapper.typeMap(Pedido.class, PedidoResponse.class)
-            .addMappings(mapper -> mapper.skip(PedidoResponse::setItens));
-    }
+    private static final int TAMANHO_PAGINA_PADRAO = 20;
+    private static final int TAMANHO_PAGINA_MAXIMO = 100;
+    private static final String CABECALHO_IDEMPOTENCIA = "Idempotency-Key";
+    private static final String CABECALHO_REPETIDO = "Idempotent-Replayed";
 
     // 1. CRIAR PEDIDO (Simplificado - sem itens iniciais)
-    @Transactional
+    // Com Idempotency-Key, repetições da mesma chave devolvem o pedido original sem criar outro
     @PostMapping
-    public ResponseEntity<PedidoResponse> criar(@Valid @RequestBody PedidoRequest request) {
-        Cliente cliente = clienteService.buscarPorId(request.getClienteId())
-                .orElseThrow(() -> new RuntimeException("Cliente não encontrado"));
-        Restaurante restaurante = restauranteService.buscarPorId(request.getRestauranteId())
-                .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
-
-        Pedido pedido = Pedido.builder()
-                .cliente(cliente)
-                .restaurante(restaurante)
-                .status(StatusPedido.CRIADO)
-                .valorTotal(BigDecimal.ZERO) // Inicia com valor zero
-                .enderecoEntrega(request.getEnderecoEntrega())
-                .build();
+    public ResponseEntity<PedidoResponse> criar(
+            @RequestHeader(name = CABECALHO_IDEMPOTENCIA, required = false) String chaveIdempotencia,
+            @Valid @RequestBody PedidoRequest request) {
+        if (chaveIdempotencia == null) {
+            return ResponseEntity.status(201).body(pedidoService.criar(request, null));
+        }
 
-        Pedido salvo = pedidoService.criar(pedido);
-        
-        return ResponseEntity.status(201).body(new PedidoResponse(
-                salvo.getId(),
-                cliente.getId(),
-                restaurante.getId(),
-                salvo.getEnderecoEntrega(),
-                salvo.getValorTotal(),
-                salvo.getStatus(),
-                salvo.getDataPedido(),
-                List.of()
-        ));
+        PedidoIdempotenciaCache.Resultado resultado = pedidoIdempotenciaCache.executar(
+                chaveIdempotencia, request, () -> pedidoService.criar(request, chaveIdempotencia));
+        return ResponseEntity.status(201)
+                .header(CABECALHO_REPETIDO, String.valueOf(resultado.repetido()))
+                .body(resultado.resposta());
     }
 
     // 2. BUSCAR PEDIDO POR ID
@@ -81,21 +70,15 @@ public class PedidoController {
             throw new RuntimeException("Pedido não encontrado");
         }
 
-        List<ItemPedidoResponse> itensResp = pedido.getItens() != null ? 
-            pedido.getItens().stream()
-                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
-                .collect(Collectors.toList()) : List.of();
+        return ResponseEntity.ok(PedidoResponse.de(pedido));
+    }
 
-        return ResponseEntity.ok(new PedidoResponse(
-                pedido.getId(),
-                pedido.getCliente().getId(),
-                pedido.getRestaurante().getId(),
-                pedido.getEnderecoEntrega(),
-                pedido.getValorTotal(),
-                pedido.getStatus(),
-                pedido.getDataPedido(),
-                itensResp
-        ));
+    // 2.1 ACOMPANHAR STATUS DO PEDIDO (SSE)
+    // Envia o status atual ao conectar e cada mudança depois disso, sem polling
+    @Transactional(readOnly = true)
+    @GetMapping(value = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter eventosPedido(@PathVariable Long id) {
+        return pedidoEventosEmissor.assinarPedido(id, () -> PedidoStatusEvento.de(pedidoService.buscarPorId(id), null));
     }
 
     // 3. BUSCAR PEDIDOS POR CLIENTE
@@ -103,22 +86,7 @@ public class PedidoController {
     @GetMapping("/cliente/{clienteId}")
     public ResponseEntity<List<PedidoResponse>> buscarPorCliente(@PathVariable Long clienteId) {
         List<Pedido> pedidos = pedidoService.buscarPorCliente(clienteId);
-        List<PedidoResponse> pedidosResp = pedidos.stream()
-                .map(pedido -> new PedidoResponse(
-                        pedido.getId(),
-                        pedido.getCliente().getId(),
-                        pedido.getRestaurante().getId(),
-                        pedido.getEnderecoEntrega(),
-                        pedido.getValorTotal(),
-                        pedido.getStatus(),
-                        pedido.getDataPedido(),
-                        pedido.getItens() != null ? pedido.getItens().stream()
-                                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
-                                .collect(Collectors.toList()) : List.of()
-                ))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(pedidosResp);
+        return ResponseEntity.ok(pedidoService.montarRespostas(pedidos));
     }
 
     //  4. ADICIONAR ITEM AO PEDIDO (IMPLEMENTAR)
@@ -135,55 +103,26 @@ public class PedidoController {
         // Se necessário, você pode validar o status do pedido dentro do serviço adicionarItem
         // ou lançar uma exceção apropriada se não for permitido adicionar itens.
 
-        List<ItemPedidoResponse> itensResp = pedidoAtualizado.getItens().stream()
-                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
-                .collect(Collectors.toList());
+        return ResponseEntity.ok(PedidoResponse.de(pedidoAtualizado));
+    }
 
-        return ResponseEntity.ok(new PedidoResponse(
-                pedidoAtualizado.getId(),
-                pedidoAtualizado.getCliente().getId(),
-                pedidoAtualizado.getRestaurante().getId(),
-                pedidoAtualizado.getEnderecoEntrega(),
-                pedidoAtualizado.getValorTotal(),
-                pedidoAtualizado.getStatus(),
-                pedidoAtualizado.getDataPedido(),
-                itensResp
-        ));
+    // 4.1 ADICIONAR VÁRIOS ITENS AO PEDIDO (LOTE)
+    @Transactional
+    @PostMapping("/{pedidoId}/itens/lote")
+    public ResponseEntity<PedidoResponse> adicionarItens(@PathVariable Long pedidoId,
+                                                        @Valid @RequestBody ItensLoteRequest request) {
+        Pedido pedidoAtualizado = pedidoService.adicionarItens(pedidoId, request.getItens());
+
+        return ResponseEntity.ok(PedidoResponse.de(pedidoAtualizado));
     }
 
     // 5. CONFIRMAR PEDIDO (IMPLEMENTAR)
     @Transactional
     @PutMapping("/{id}/confirmar")
     public ResponseEntity<PedidoResponse> confirmar(@PathVariable Long id) {
-        Pedido pedido = pedidoService.buscarPorId(id);
-        if (pedido == null) {
-            throw new RuntimeException("Pedido não encontrado");
-        }
-        
-        if (pedido.getStatus() != StatusPedido.CRIADO) {
-            throw new RuntimeException("Pedido já foi confirmado ou cancelado");
-        }
-
-        if (pedido.getItens() == null || pedido.getItens().isEmpty()) {
-            throw new RuntimeException("Não é possível confirmar um pedido sem itens");
-        }
-
         Pedido pedidoConfirmado = pedidoService.confirmar(id);
         
-        List<ItemPedidoResponse> itensResp = pedidoConfirmado.getItens().stream()
-                .map(i -> new ItemPedidoResponse(i.getProduto().getId(), i.getProduto().getNome(), i.getQuantidade(), i.getPrecoUnitario()))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(new PedidoResponse(
-                pedidoConfirmado.getId(),
-                pedidoConfirmado.getCliente().getId(),
-                pedidoConfirmado.getRestaurante().getId(),
-                pedidoConfirmado.getEnderecoEntrega(),
-                pedidoConfirmado.getValorTotal(),
-                pedidoConfirmado.getStatus(),
-                pedidoConfirmado.getDataPedido(),
-                itensResp
-        ));
+        return ResponseEntity.ok(PedidoResponse.de(pedidoConfirmado));
     }
 
     // 7. CANCELAR PEDIDO (NOVO)
@@ -192,17 +131,8 @@ public class PedidoController {
     public ResponseEntity<PedidoResponse> cancelar(@PathVariable Long id) {
         Pedido pedidoCancelado = pedidoService.cancelar(id);
         
-        // Retornar o pedido cancelado como resposta
-        return ResponseEntity.ok(new PedidoResponse(
-                pedidoCancelado.getId(),
-                pedidoCancelado.getCliente().getId(),
-                pedidoCancelado.getRestaurante().getId(),
-                pedidoCancelado.getEnderecoEntrega(),
-                pedidoCancelado.getValorTotal(),
-                pedidoCancelado.getStatus(), // ✅ Agora será CANCELADO
-                pedidoCancelado.getDataPedido(),
-                List.of() // ou mapear os itens se necessário
-        ));
+        // Retornar o pedido cancelado como resposta (sem itens)
+        return ResponseEntity.ok(PedidoResponse.de(pedidoCancelado, List.of()));
     }
 
     @Transactional
@@ -213,39 +143,35 @@ public class PedidoController {
     }
 
     // ✅ ADICIONAR: Endpoint para listar todos os pedidos
+    // Com 'cursor' ou 'tamanho' informado, responde no modo paginado por cursor (keyset)
     @GetMapping
     @Transactional(readOnly = true)
-    public ResponseEntity<List<PedidoResponse>> listarTodos(
+    public ResponseEntity<?> listarTodos(
             @RequestParam(required = false) StatusPedido status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+
+        if (cursor != null || tamanho != null) {
+            return ResponseEntity.ok(listarPaginado(status, dataInicio, dataFim, cursor, tamanho));
+        }
         
         List<Pedido> pedidos = pedidoService.listarComFiltros(status, dataInicio, dataFim);
-        List<PedidoResponse> pedidosResp = pedidos.stream()
-                .map(this::convertToPedidoResponse)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(pedidosResp);
+        return ResponseEntity.ok(pedidoService.montarRespostas(pedidos));
     }
 
-    /**
-     * Converter Pedido para PedidoResponse usando ModelMapper
-     */
-    private PedidoResponse convertToPedidoResponse(Pedido pedido) {
-        PedidoResponse response = modelMapper.map(pedido, PedidoResponse.class);
-
-        // Evitar que o ModelMapper tente mapear a coleção lazy
-        response.setItens(null);
-
-        // Mapear itens manualmente (relacionamento complexo)
-        if (pedido.getItens() != null) {
-            List<ItemPedidoResponse> itensResp = pedido.getItens().stream()
-                .map(item -> modelMapper.map(item, ItemPedidoResponse.class))
-                .collect(Collectors.toList());
-            response.setItens(itensResp);
+    private PaginaCursorResponse<PedidoResponse> listarPaginado(StatusPedido status, LocalDate dataInicio,
+                                                                LocalDate dataFim, String cursor, Integer tamanho) {
+        int tamanhoPagina = tamanho == null ? TAMANHO_PAGINA_PADRAO : tamanho;
+        if (tamanhoPagina < 1 || tamanhoPagina > TAMANHO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("Tamanho da página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
         }
 
-        return response;
+        PedidoCursor posicao = cursor == null || cursor.isBlank() ? null : PedidoCursor.decodificar(cursor);
+        PaginaCursorResponse<Pedido> pagina = pedidoService.listarPaginado(status, dataInicio, dataFim, posicao, tamanhoPagina);
+        return new PaginaCursorResponse<>(pedidoService.montarRespostas(pagina.getConteudo()),
+                pagina.getNextCursor(), pagina.isTemProxima());
     }
 
     /**
@@ -256,68 +182,20 @@ public class PedidoController {
     @PatchMapping("/{id}/status")
     public ResponseEntity<PedidoResponse> atualizarStatus(@PathVariable Long id,
                                                      @Valid @RequestBody StatusUpdateRequest request) {
+        // Extrair status do DTO
+        String statusStr = request.getStatus();
+        
+        // Converter string para enum
+        StatusPedido status;
         try {
-            // Extrair status do DTO
-            String statusStr = request.getStatus();
-            
-            // Converter string para enum
-            StatusPedido status;
-            try {
-                status = StatusPedido.valueOf(statusStr.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Status inválido: " + statusStr);
-            }
-            
-            // ADICIONAR APENAS ESTAS 4 LINHAS:
-            Pedido pedido = pedidoService.buscarPorId(id);
-            if (pedido == null) {
-                throw new RuntimeException("Pedido não encontrado");
-            }
-            
-            validarTransicaoStatus(pedido.getStatus(), status);
-            // FIM DA ADIÇÃO
-            
-            // Atualizar status
-            Pedido pedidoAtualizado = pedidoService.atualizarStatus(id, status);
-            return ResponseEntity.ok(convertToPedidoResponse(pedidoAtualizado));
-            
-        } catch (Exception e) {
-            throw new RuntimeException("Erro ao atualizar status: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Validar se a transição de status é válida
-     */
-    private void validarTransicaoStatus(StatusPedido statusAtual, StatusPedido novoStatus) {
-        // Regras de negócio para transição de status
-        switch (statusAtual) {
-            case CRIADO:
-                if (novoStatus != StatusPedido.CONFIRMADO && novoStatus != StatusPedido.CANCELADO) {
-                    throw new IllegalArgumentException("De CRIADO só pode ir para CONFIRMADO ou CANCELADO");
-                }
-                break;
-            case CONFIRMADO:
-                if (novoStatus != StatusPedido.PREPARANDO && novoStatus != StatusPedido.CANCELADO) {
-                    throw new IllegalArgumentException("De CONFIRMADO só pode ir para PREPARANDO ou CANCELADO");
-                }
-                break;
-            case PREPARANDO:
-                if (novoStatus != StatusPedido.SAIU_PARA_ENTREGA && novoStatus != StatusPedido.CANCELADO) {
-                    throw new IllegalArgumentException("De PREPARANDO só pode ir para SAIU_PARA_ENTREGA ou CANCELADO");
-                }
-                break;
-            case SAIU_PARA_ENTREGA:
-                if (novoStatus != StatusPedido.ENTREGUE) {
-                    throw new IllegalArgumentException("De SAIU_PARA_ENTREGA só pode ir para ENTREGUE");
-                }
-                break;
-            case ENTREGUE:
-            case CANCELADO:
-                throw new IllegalArgumentException("Pedido já está em status final: " + statusAtual);
-            default:
-                throw new IllegalArgumentException("Status atual inválido: " + statusAtual);
+            status = StatusPedido.valueOf(statusStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status inválido: " + statusStr);
         }
+        
+        // Atualizar status (transição validada no service)
+        Pedido pedidoAtualizado = pedidoService.atualizarStatus(id, status);
+        return ResponseEntity.ok(pedidoService.montarRespostas(List.of(pedidoAtualizado)).get(0));
     }
 
     /**
@@ -328,11 +206,18 @@ public class PedidoController {
     @Transactional(readOnly = true)
     public ResponseEntity<List<PedidoResponse>> buscarPorRestaurante(@PathVariable Long restauranteId) {
         List<Pedido> pedidos = pedidoService.buscarPorRestaurante(restauranteId);
-        List<PedidoResponse> pedidosResp = pedidos.stream()
-                .map(this::convertToPedidoResponse)
-                .collect(Collectors.toList());
+        return ResponseEntity.ok(pedidoService.montarRespostas(pedidos));
+    }
 
-        return ResponseEntity.ok(pedidosResp);
+    /**
+     * Acompanhar mudanças de status dos pedidos de um restaurante (SSE)
+     * GET /api/pedidos/restaurante/{restauranteId}/eventos
+     */
+    @GetMapping(value = "/restaurante/{restauranteId}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter eventosRestaurante(@PathVariable Long restauranteId) {
+        restauranteService.buscarPorId(restauranteId)
+                .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
+        return pedidoEventosEmissor.assinarRestaurante(restauranteId);
     }
 
     /**
@@ -345,22 +230,8 @@ public class PedidoController {
         Restaurante restaurante = restauranteService.buscarPorId(request.getRestauranteId())
                 .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
         
-        BigDecimal subtotal = BigDecimal.ZERO;
-        
-        // Calcular subtotal dos itens (se houver)
-        if (request.getItens() != null && !request.getItens().isEmpty()) {
-            for (var itemRequest : request.getItens()) {
-                Produto produto = produtoService.buscarPorId(itemRequest.getProdutoId())
-                        .orElseThrow(() -> new RuntimeException("Produto não encontrado: " + itemRequest.getProdutoId()));
-
-                BigDecimal precoProduto = produto.getPreco() == null
-                    ? BigDecimal.ZERO
-                    : BigDecimal.valueOf(produto.getPreco());
-                BigDecimal valorItem = precoProduto
-                    .multiply(BigDecimal.valueOf(itemRequest.getQuantidade()));
-                subtotal = subtotal.add(valorItem);
-            }
-        }
+        // Calcular subtotal dos itens (se houver) com preços do cache de produtos
+        BigDecimal subtotal = pedidoService.calcularTotalPedido(request.getItens());
         
         BigDecimal taxaEntrega = restaurante.getTaxaEntrega();
         BigDecimal valorTotal = subtotal.add(taxaEntrega);
@@ -1,5 +1,6 @@
 package com.deliverutech.delivery_api.controller;
 
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
 import com.deliverutech.delivery_api.dto.request.ProdutoRequest;
 import com.deliverutech.delivery_api.dto.response.ProdutoResponse;
 import com.deliverutech.delivery_api.model.Produto;
@@ -11,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +20,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProdutoController {
 
+    private static final int LIMITE_MAXIMO_BUSCA = 100;
+
     private final ProdutoService produtoService;
     private final RestauranteService restauranteService;
 
@@ -38,13 +40,13 @@ public class ProdutoController {
                 .build();
 
         Produto salvo = produtoService.cadastrar(produto);
-        return ResponseEntity.status(201).body(toResponse(salvo));
+        return ResponseEntity.status(201).body(ProdutoResponse.de(salvo));
     }
 
     @GetMapping("/restaurante/{restauranteId}")
     public List<ProdutoResponse> listarPorRestaurante(@PathVariable Long restauranteId) {
         return produtoService.buscarPorRestaurante(restauranteId).stream()
-                .map(this::toResponse)
+                .map(ProdutoResponse::de)
                 .collect(Collectors.toList());
     }
 
@@ -57,7 +59,7 @@ public class ProdutoController {
             .preco(request.getPreco().doubleValue())
                 .build();
         Produto salvo = produtoService.atualizar(id, atualizado);
-        return ResponseEntity.ok(toResponse(salvo));
+        return ResponseEntity.ok(ProdutoResponse.de(salvo));
     }
 
     @PatchMapping("/{id}/disponibilidade")
@@ -67,18 +69,27 @@ public class ProdutoController {
     }
 
     // ADICIONAR: Listar todos os produtos
+    // Com 'cursor', 'tamanho', 'ordenacao' ou 'contarTotal' informado, responde no modo paginado por cursor (keyset)
     @GetMapping
-    public List<ProdutoResponse> listarTodos() {
-        return produtoService.listarTodos().stream()
-                 .map(this::toResponse)
-                .collect(Collectors.toList());
+    public ResponseEntity<?> listarTodos(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) Integer tamanho,
+                                         @RequestParam(required = false) String ordenacao,
+                                         @RequestParam(required = false) Boolean contarTotal) {
+        if (cursor != null || tamanho != null || ordenacao != null || contarTotal != null) {
+            ListagemCursor posicao = cursor == null || cursor.isBlank() ? null : ListagemCursor.decodificar(cursor);
+            return ResponseEntity.ok(produtoService.listarPaginado(ordenacao, posicao, tamanho,
+                    Boolean.TRUE.equals(contarTotal)).map(ProdutoResponse::de));
+        }
+        return ResponseEntity.ok(produtoService.listarTodos().stream()
+                 .map(ProdutoResponse::de)
+                .collect(Collectors.toList()));
     }
 
     // ADICIONAR: Buscar produto por ID
     @GetMapping("/{id}")
     public ResponseEntity<ProdutoResponse> buscarPorId(@PathVariable Long id) {
         return produtoService.buscarPorId(id)
-                 .map(this::toResponse)
+                 .map(ProdutoResponse::de)
                 .map(ResponseEntity::ok)
                  .orElse(ResponseEntity.notFound().<ProdutoResponse>build());
     }
@@ -104,21 +115,26 @@ public class ProdutoController {
     @GetMapping("/categoria/{categoria}")
     public List<ProdutoResponse> buscarPorCategoria(@PathVariable String categoria) {
         return produtoService.buscarPorCategoria(categoria).stream()
-                .map(this::toResponse)
+                .map(ProdutoResponse::de)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Busca produtos por nome
-     * GET /api/produtos/buscar?nome={nome}
+     * Busca produtos por nome, categoria ou descrição, ordenados por relevância
+     * (sem diferenciar acentos: "acai" encontra "Açaí")
+     * GET /api/produtos/buscar?nome={texto}&limite={limite}
      */
     @GetMapping("/buscar")
-    public ResponseEntity<List<ProdutoResponse>> buscarPorNome(@RequestParam String nome) {
+    public ResponseEntity<List<ProdutoResponse>> buscarPorNome(@RequestParam String nome,
+                                                               @RequestParam(defaultValue = "20") int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_BUSCA) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + LIMITE_MAXIMO_BUSCA);
+        }
         try {
-            List<Produto> produtos = produtoService.buscarPorNome(nome);
+            List<Produto> produtos = produtoService.buscarPorNome(nome, limite);
             
             List<ProdutoResponse> response = produtos.stream()
-                .map(this::toResponse)
+                .map(ProdutoResponse::de)
                 .collect(Collectors.toList());
             
             return ResponseEntity.ok(response);
@@ -129,18 +145,4 @@ public class ProdutoController {
             return ResponseEntity.status(500).build();
         }
     }
-
-    private ProdutoResponse toResponse(Produto produto) {
-        return new ProdutoResponse(
-                produto.getId(),
-                produto.getNome(),
-                produto.getCategoria(),
-                produto.getDescricao(),
-                toBigDecimal(produto.getPreco()),
-                produto.isDisponivel());
-    }
-
-    private BigDecimal toBigDecimal(Double valor) {
-        return valor == null ? null : BigDecimal.valueOf(valor);
-    }
 }
@@ -1,6 +1,10 @@
 package com.deliverutech.delivery_api.controller;
 
+import com.deliverutech.delivery_api.projection.RelatorioVendas;
+import com.deliverutech.delivery_api.projection.RelatorioVendasClientes;
+import com.deliverutech.delivery_api.projection.RelatorioVendasProdutos;
 import com.deliverutech.delivery_api.service.RelatorioService;
+import com.deliverutech.delivery_api.service.VendaDiariaService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +25,7 @@ import java.util.Map;
 public class RelatorioController {
 
     private final RelatorioService relatorioService;
+    private final VendaDiariaService vendaDiariaService;
 
     /**
      * Relatório de vendas por restaurante
@@ -28,11 +33,11 @@ public class RelatorioController {
      */
     @GetMapping("/vendas-por-restaurante")
     @Transactional(readOnly = true)
-    public ResponseEntity<List<Map<String, Object>>> vendasPorRestaurante(
+    public ResponseEntity<List<RelatorioVendas>> vendasPorRestaurante(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
         
-        List<Map<String, Object>> vendas = relatorioService.relatorioVendasPorRestaurante(dataInicio, dataFim);
+        List<RelatorioVendas> vendas = relatorioService.relatorioVendasPorRestaurante(dataInicio, dataFim);
         return ResponseEntity.ok(vendas);
     }
 
@@ -42,12 +47,12 @@ public class RelatorioController {
      */
     @GetMapping("/produtos-mais-vendidos")
     @Transactional(readOnly = true)
-    public ResponseEntity<List<Map<String, Object>>> produtosMaisVendidos(
+    public ResponseEntity<List<RelatorioVendasProdutos>> produtosMaisVendidos(
             @RequestParam(defaultValue = "10") int limite,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
         
-        List<Map<String, Object>> produtos = relatorioService.relatorioProdutosMaisVendidos(limite, dataInicio, dataFim);
+        List<RelatorioVendasProdutos> produtos = relatorioService.relatorioProdutosMaisVendidos(limite, dataInicio, dataFim);
         return ResponseEntity.ok(produtos);
     }
 
@@ -57,12 +62,12 @@ public class RelatorioController {
      */
     @GetMapping("/clientes-ativos")
     @Transactional(readOnly = true)
-    public ResponseEntity<List<Map<String, Object>>> clientesAtivos(
+    public ResponseEntity<List<RelatorioVendasClientes>> clientesAtivos(
             @RequestParam(defaultValue = "10") int limite,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
         
-        List<Map<String, Object>> clientes = relatorioService.relatorioClientesAtivos(limite, dataInicio, dataFim);
+        List<RelatorioVendasClientes> clientes = relatorioService.relatorioClientesAtivos(limite, dataInicio, dataFim);
         return ResponseEntity.ok(clientes);
     }
 
@@ -94,4 +99,17 @@ public class RelatorioController {
         Map<String, Object> resumo = relatorioService.resumoVendas(dataInicio, dataFim);
         return ResponseEntity.ok(resumo);
     }
+
+    /**
+     * Reconstruir o rollup de vendas diárias a partir dos pedidos
+     * POST /api/relatorios/vendas-diarias/reconstruir
+     */
+    @PostMapping("/vendas-diarias/reconstruir")
+    public ResponseEntity<Map<String, Object>> reconstruirVendasDiarias(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+
+        Map<String, Object> resultado = vendaDiariaService.reconstruir(dataInicio, dataFim);
+        return ResponseEntity.ok(resultado);
+    }
 }
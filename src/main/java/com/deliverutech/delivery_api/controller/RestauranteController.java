@@ -1,10 +1,19 @@
 package com.deliverutech.delivery_api.controller;
 
+import com.deliverutech.delivery_api.cache.CardapioCache;
+import com.deliverutech.delivery_api.cache.CardapioCache.Cardapio;
+import com.deliverutech.delivery_api.dto.request.CotacaoTaxasRequest;
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
 import com.deliverutech.delivery_api.dto.request.RestauranteRequest;
+import com.deliverutech.delivery_api.dto.response.CotacaoTaxasResponse;
 import com.deliverutech.delivery_api.dto.response.RestauranteResponse;
 import com.deliverutech.delivery_api.model.Restaurante;
 import com.deliverutech.delivery_api.service.RestauranteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,34 +22,44 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import com.deliverutech.delivery_api.dto.response.ProdutoResponse;
-import com.deliverutech.delivery_api.model.Produto;
-import com.deliverutech.delivery_api.service.ProdutoService;
 
 @RestController
 @RequestMapping("/api/restaurantes")
 @RequiredArgsConstructor
 public class RestauranteController {
 
+    private static final int LIMITE_MAXIMO_PROXIMOS = 100;
+
     private final RestauranteService restauranteService;
-    private final ProdutoService produtoService;
+    private final CardapioCache cardapioCache;
 
     @PostMapping
     public ResponseEntity<RestauranteResponse> cadastrar(@Valid @RequestBody RestauranteRequest request) {
         Restaurante salvo = restauranteService.cadastrar(request);
 
-        return ResponseEntity.status(201).body(toRestauranteResponse(salvo));
+        return ResponseEntity.status(201).body(RestauranteResponse.de(salvo));
     }
 
+    // Com 'cursor', 'tamanho', 'ordenacao' ou 'contarTotal' informado, responde no modo paginado por cursor (keyset)
     @GetMapping
-    public ResponseEntity<List<RestauranteResponse>> listarTodos(
+    public ResponseEntity<?> listarTodos(
         @RequestParam(required = false) String categoria,
-        @RequestParam(required = false) Boolean ativo) {
+        @RequestParam(required = false) Boolean ativo,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer tamanho,
+        @RequestParam(required = false) String ordenacao,
+        @RequestParam(required = false) Boolean contarTotal) {
+
+        if (cursor != null || tamanho != null || ordenacao != null || contarTotal != null) {
+            ListagemCursor posicao = cursor == null || cursor.isBlank() ? null : ListagemCursor.decodificar(cursor);
+            return ResponseEntity.ok(restauranteService.listarPaginado(categoria, ativo, ordenacao, posicao, tamanho,
+                    Boolean.TRUE.equals(contarTotal)).map(RestauranteResponse::de));
+        }
         
         List<Restaurante> restaurantes = restauranteService.listarComFiltros(categoria, ativo);
         
         List<RestauranteResponse> response = restaurantes.stream()
-            .map(this::toRestauranteResponse)
+            .map(RestauranteResponse::de)
             .collect(Collectors.toList());
         
         return ResponseEntity.ok(response);
@@ -49,7 +68,7 @@ public class RestauranteController {
     @GetMapping("/{id}")
     public ResponseEntity<RestauranteResponse> buscarPorId(@PathVariable Long id) {
         return restauranteService.buscarPorId(id)
-                .map(this::toRestauranteResponse)
+                .map(RestauranteResponse::de)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().<RestauranteResponse>build());
     }
@@ -57,7 +76,7 @@ public class RestauranteController {
     @GetMapping("/categoria/{categoria}")
     public List<RestauranteResponse> buscarPorCategoria(@PathVariable String categoria) {
         return restauranteService.buscarPorCategoria(categoria).stream()
-                .map(this::toRestauranteResponse)
+                .map(RestauranteResponse::de)
                 .collect(Collectors.toList());
     }
 
@@ -65,7 +84,7 @@ public class RestauranteController {
     public ResponseEntity<RestauranteResponse> atualizar(@PathVariable Long id, @Valid @RequestBody RestauranteRequest request) {
         Restaurante salvo = restauranteService.atualizar(id, request);
 
-        return ResponseEntity.ok(toRestauranteResponse(salvo));
+        return ResponseEntity.ok(RestauranteResponse.de(salvo));
     }
 
     @DeleteMapping("/{id}")
@@ -81,7 +100,7 @@ public class RestauranteController {
     @GetMapping("/disponiveis")
     public List<RestauranteResponse> buscarDisponiveis() {
         return restauranteService.listarAtivos().stream()
-                .map(this::toRestauranteResponse)
+                .map(RestauranteResponse::de)
                 .collect(Collectors.toList());
     }
 
@@ -114,25 +133,40 @@ public class RestauranteController {
         }
     }
 
+    /**
+     * Calcular a taxa de entrega de vários restaurantes para o mesmo CEP (ex.: tela de checkout)
+     * POST /api/restaurantes/taxas-entrega
+     */
+    @PostMapping("/taxas-entrega")
+    public CotacaoTaxasResponse cotarTaxasEntrega(@Valid @RequestBody CotacaoTaxasRequest request) {
+        List<CotacaoTaxasResponse.Taxa> taxas = restauranteService
+            .cotarTaxasEntrega(request.getRestauranteIds(), request.getCep()).entrySet().stream()
+            .map(taxa -> new CotacaoTaxasResponse.Taxa(taxa.getKey(), taxa.getValue(), taxa.getValue() != null))
+            .toList();
+        return new CotacaoTaxasResponse(request.getCep(), "BRL", taxas);
+    }
+
     /**
      * Buscar produtos de um restaurante
      * GET /api/restaurantes/{id}/produtos
      */
-    @GetMapping("/{id}/produtos")
-    public ResponseEntity<List<ProdutoResponse>> buscarProdutosPorRestaurante(@PathVariable Long id) {
-        // Verificar se restaurante existe
-        restauranteService.buscarPorId(id)
-            .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
-        
-        // Buscar produtos do restaurante
-        List<Produto> produtos = produtoService.buscarPorRestaurante(id);
-        
-        // Converter para Response
-        List<ProdutoResponse> response = produtos.stream()
-            .map(this::toProdutoResponse)
-            .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(response);
+    @GetMapping(value = "/{id}/produtos", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> buscarProdutosPorRestaurante(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Cardápio já serializado em cache; 304 se o cliente tem a versão atual
+        Cardapio cardapio = cardapioCache.buscar(id);
+        if (cardapio.corresponde(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cardapio.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(cardapio.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cardapio.json());
     }
 
     /**
@@ -145,7 +179,7 @@ public class RestauranteController {
         Boolean ativo = request.get("ativo");
         Restaurante restaurante = restauranteService.alterarStatus(id, ativo);
 
-        return ResponseEntity.ok(toRestauranteResponse(restaurante));
+        return ResponseEntity.ok(RestauranteResponse.de(restaurante));
     }
 
     /**
@@ -166,42 +200,25 @@ public class RestauranteController {
     }
 
     /**
-     * Buscar restaurantes próximos por CEP
-     * GET /api/restaurantes/proximos/{cep}
+     * Buscar restaurantes próximos por CEP, do mais perto para o mais longe
+     * GET /api/restaurantes/proximos/{cep}?limite={k}&raioKm={raio}
      */
     @GetMapping("/proximos/{cep}")
-    public ResponseEntity<List<RestauranteResponse>> buscarProximos(@PathVariable String cep) {
-        List<Restaurante> restaurantes = restauranteService.buscarProximos(cep);
+    public ResponseEntity<List<RestauranteResponse>> buscarProximos(@PathVariable String cep,
+                                                                    @RequestParam(required = false) Double raioKm,
+                                                                    @RequestParam(defaultValue = "10") int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_PROXIMOS) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + LIMITE_MAXIMO_PROXIMOS);
+        }
+        if (raioKm != null && raioKm <= 0) {
+            throw new IllegalArgumentException("Raio deve ser positivo");
+        }
+        List<Restaurante> restaurantes = restauranteService.buscarProximos(cep, raioKm, limite);
         
         List<RestauranteResponse> response = restaurantes.stream()
-            .map(this::toRestauranteResponse)
+            .map(RestauranteResponse::de)
             .collect(Collectors.toList());
         
         return ResponseEntity.ok(response);
     }
-
-    private RestauranteResponse toRestauranteResponse(Restaurante restaurante) {
-        return new RestauranteResponse(
-                restaurante.getId(),
-                restaurante.getNome(),
-                restaurante.getCategoria(),
-                restaurante.getTelefone(),
-                restaurante.getTaxaEntrega(),
-                restaurante.getTempoEntregaMinutos(),
-                restaurante.isAtivo());
-    }
-
-    private ProdutoResponse toProdutoResponse(Produto produto) {
-        return new ProdutoResponse(
-                produto.getId(),
-                produto.getNome(),
-                produto.getCategoria(),
-                produto.getDescricao(),
-                toBigDecimal(produto.getPreco()),
-                produto.isDisponivel());
-    }
-
-    private BigDecimal toBigDecimal(Double valor) {
-        return valor == null ? null : BigDecimal.valueOf(valor);
-    }
 }
@@ -0,0 +1,25 @@
+package com.deliverutech.delivery_api.dto.request;
+
+import com.deliverutech.delivery_api.validation.ValidCEP;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CotacaoTaxasRequest {
+
+    @NotBlank(message = "CEP é obrigatório")
+    @ValidCEP
+    private String cep;
+
+    @NotEmpty(message = "Informe ao menos um restaurante")
+    @Size(max = 100, message = "Máximo de 100 restaurantes por cotação")
+    private List<Long> restauranteIds;
+}
@@ -0,0 +1,20 @@
+package com.deliverutech.delivery_api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItensLoteRequest {
+
+    @NotEmpty(message = "Informe ao menos um item")
+    @Size(max = 100, message = "Máximo de 100 itens por lote")
+    private List<@Valid ItemPedidoRequest> itens;
+}
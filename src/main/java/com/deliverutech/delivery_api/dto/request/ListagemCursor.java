@@ -0,0 +1,38 @@
+package com.deliverutech.delivery_api.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação keyset das listagens de catálogo (restaurantes, produtos, clientes):
+ * ordenação usada, valor do campo ordenado e id da última linha da página.
+ * Trafega como token opaco em Base64 URL-safe no parâmetro "cursor".
+ */
+public record ListagemCursor(String ordenacao, String valor, Long id) {
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        String texto = ordenacao + SEPARADOR + valor + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ListagemCursor decodificar(String token) {
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // A ordenação não tem separador; o valor (ex.: nome) pode ter
+            int inicioValor = texto.indexOf(SEPARADOR);
+            int inicioId = texto.lastIndexOf(SEPARADOR);
+            if (inicioValor <= 0 || inicioId == inicioValor) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return new ListagemCursor(
+                    texto.substring(0, inicioValor),
+                    texto.substring(inicioValor + 1, inicioId),
+                    Long.valueOf(texto.substring(inicioId + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.deliverutech.delivery_api.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação keyset para pedidos (dataPedido, id).
+ * Trafega como token opaco em Base64 URL-safe no parâmetro "cursor".
+ */
+public record PedidoCursor(LocalDateTime dataPedido, Long id) {
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        String valor = dataPedido + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PedidoCursor decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int pos = valor.lastIndexOf(SEPARADOR);
+            if (pos <= 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return new PedidoCursor(
+                    LocalDateTime.parse(valor.substring(0, pos)),
+                    Long.valueOf(valor.substring(pos + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+    }
+}
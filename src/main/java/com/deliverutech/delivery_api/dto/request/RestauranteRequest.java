@@ -1,5 +1,6 @@
 package com.deliverutech.delivery_api.dto.request;
 
+import com.deliverutech.delivery_api.validation.ValidCEP;
 import jakarta.validation.constraints.*;
 import lombok.*;
 
@@ -32,6 +33,10 @@ public class RestauranteRequest {
     private String telefone;
     private String email;
 
+    // Usado para localizar o restaurante na busca por proximidade
+    @ValidCEP
+    private String cep;
+
     @Positive(message = "Avaliação deve ser positiva")
     @DecimalMax(value = "5.0", message = "Avaliação máxima é 5.0")
     private BigDecimal avaliacao;
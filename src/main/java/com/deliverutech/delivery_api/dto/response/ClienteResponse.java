@@ -2,6 +2,8 @@ package com.deliverutech.delivery_api.dto.response;
 
 import java.time.LocalDateTime;
 
+import com.deliverutech.delivery_api.model.Cliente;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,4 +23,14 @@ public class ClienteResponse {
     private Boolean ativo;
     private LocalDateTime dataCriacao;
 
+    public static ClienteResponse de(Cliente cliente) {
+        return new ClienteResponse(
+                cliente.getId(),
+                cliente.getNome(),
+                cliente.getTelefone(),
+                cliente.getEmail(),
+                cliente.getEndereco(),
+                cliente.getAtivo(),
+                cliente.getDataCriacao());
+    }
 }
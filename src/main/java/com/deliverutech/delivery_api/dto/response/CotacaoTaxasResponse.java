@@ -0,0 +1,30 @@
+package com.deliverutech.delivery_api.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Taxas de entrega de vários restaurantes para um CEP.
+ * taxaEntrega é nula (e disponivel falso) para restaurante inexistente ou inativo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CotacaoTaxasResponse {
+    private String cep;
+    private String moeda;
+    private List<Taxa> taxas;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Taxa {
+        private Long restauranteId;
+        private BigDecimal taxaEntrega;
+        private boolean disponivel;
+    }
+}
@@ -0,0 +1,29 @@
+package com.deliverutech.delivery_api.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de uma importação em lote: contagens e um erro por linha rejeitada,
+ * na ordem do arquivo. As linhas rejeitadas não impedem a gravação das demais.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportacaoResponse {
+    private long linhasLidas;
+    private long importados;
+    private long rejeitados;
+    private List<ErroLinha> erros;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ErroLinha {
+        private long linha;
+        private List<String> mensagens;
+    }
+}
@@ -1,5 +1,6 @@
 package com.deliverutech.delivery_api.dto.response;
 
+import com.deliverutech.delivery_api.model.ItemPedido;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -12,4 +13,12 @@ public class ItemPedidoResponse {
     private String nomeProduto;
     private Integer quantidade;
     private BigDecimal precoUnitario;
+
+    public static ItemPedidoResponse de(ItemPedido item) {
+        return new ItemPedidoResponse(
+                item.getProduto().getId(),
+                item.getProduto().getNome(),
+                item.getQuantidade(),
+                item.getPrecoUnitario());
+    }
 }
@@ -0,0 +1,35 @@
+package com.deliverutech.delivery_api.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados navegada por cursor (keyset).
+ * nextCursor é nulo quando não há próxima página.
+ * total só vem quando pedido (exige um COUNT sobre todo o filtro).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaCursorResponse<T> {
+    private List<T> conteudo;
+    private String nextCursor;
+    private boolean temProxima;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    public PaginaCursorResponse(List<T> conteudo, String nextCursor, boolean temProxima) {
+        this(conteudo, nextCursor, temProxima, null);
+    }
+
+    public <R> PaginaCursorResponse<R> map(Function<? super T, ? extends R> conversor) {
+        List<R> convertidos = conteudo.stream().<R>map(conversor).toList();
+        return new PaginaCursorResponse<>(convertidos, nextCursor, temProxima, total);
+    }
+}
@@ -2,6 +2,7 @@ package com.deliverutech.delivery_api.dto.response;
 
 import com.deliverutech.delivery_api.model.StatusPedido;
 import com.deliverutech.delivery_api.model.Endereco;
+import com.deliverutech.delivery_api.model.Pedido;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -13,6 +14,7 @@ import java.util.List;
 @AllArgsConstructor
 public class PedidoResponse {
     private Long id;
+    private String numeroPedido;
     private Long clienteId;
     private Long restauranteId;
     private Endereco enderecoEntrega;
@@ -20,4 +22,30 @@ public class PedidoResponse {
     private StatusPedido status;
     private LocalDateTime dataPedido;
     private List<ItemPedidoResponse> itens;
+
+    /**
+     * Mapear o pedido com seus itens carregados (sem itens = lista vazia)
+     */
+    public static PedidoResponse de(Pedido pedido) {
+        List<ItemPedidoResponse> itens = pedido.getItens() == null
+                ? List.of()
+                : pedido.getItens().stream().map(ItemPedidoResponse::de).toList();
+        return de(pedido, itens);
+    }
+
+    /**
+     * Mapear o pedido com itens já convertidos (ex.: lidos por projeção)
+     */
+    public static PedidoResponse de(Pedido pedido, List<ItemPedidoResponse> itens) {
+        return new PedidoResponse(
+                pedido.getId(),
+                pedido.getNumeroPedido(),
+                pedido.getCliente() != null ? pedido.getCliente().getId() : null,
+                pedido.getRestaurante() != null ? pedido.getRestaurante().getId() : null,
+                pedido.getEnderecoEntrega(),
+                pedido.getValorTotal(),
+                pedido.getStatus(),
+                pedido.getDataPedido(),
+                itens);
+    }
 }
@@ -1,5 +1,6 @@
 package com.deliverutech.delivery_api.dto.response;
 
+import com.deliverutech.delivery_api.model.Produto;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -14,4 +15,14 @@ public class ProdutoResponse {
     private String descricao;
     private BigDecimal preco;
     private Boolean disponivel;
+
+    public static ProdutoResponse de(Produto produto) {
+        return new ProdutoResponse(
+                produto.getId(),
+                produto.getNome(),
+                produto.getCategoria(),
+                produto.getDescricao(),
+                produto.getPreco() == null ? null : BigDecimal.valueOf(produto.getPreco()),
+                produto.isDisponivel());
+    }
 }
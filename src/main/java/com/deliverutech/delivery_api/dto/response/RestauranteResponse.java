@@ -1,5 +1,6 @@
 package com.deliverutech.delivery_api.dto.response;
 
+import com.deliverutech.delivery_api.model.Restaurante;
 import lombok.*;
 
 import java.math.BigDecimal;
@@ -15,4 +16,15 @@ public class RestauranteResponse {
     private BigDecimal taxaEntrega;
     private Integer tempoEntregaMinutos;
     private Boolean ativo;
+
+    public static RestauranteResponse de(Restaurante restaurante) {
+        return new RestauranteResponse(
+                restaurante.getId(),
+                restaurante.getNome(),
+                restaurante.getCategoria(),
+                restaurante.getTelefone(),
+                restaurante.getTaxaEntrega(),
+                restaurante.getTempoEntregaMinutos(),
+                restaurante.isAtivo());
+    }
 }
@@ -0,0 +1,207 @@
+package com.deliverutech.delivery_api.evento;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém as conexões SSE abertas por pedido e por restaurante e repassa a elas
+ * os PedidoStatusEvento publicados, sem consultar o banco.
+ * Os envios rodam em threads virtuais, nunca na thread que alterou o pedido: um cliente lento
+ * bloqueia só a própria escrita. Cada assinante tem uma fila, enviada em ordem, e quem acumula
+ * eventos demais é desconectado.
+ */
+@Slf4j
+@Component
+public class PedidoEventosEmissor implements AutoCloseable {
+
+    private static final long TIMEOUT = Duration.ofMinutes(30).toMillis();
+    private static final String NOME_EVENTO = "status";
+    // Eventos aguardando envio por assinante; acima disso a conexão é encerrada (o cliente reconecta)
+    private static final int MAXIMO_PENDENTES = 100;
+
+    private final Map<Long, Set<Assinante>> porPedido = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Assinante>> porRestaurante = new ConcurrentHashMap<>();
+    private final ExecutorService envio;
+
+    public PedidoEventosEmissor() {
+        this.envio = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pedido-eventos-", 0).factory());
+    }
+
+    @Override
+    public void close() {
+        envio.shutdownNow();
+    }
+
+    /**
+     * Assinar as mudanças de um pedido; o status atual é o primeiro evento enviado.
+     * O status é lido só depois do registro: uma mudança confirmada depois da leitura chega
+     * como evento, e os eventos recebidos enquanto isso esperam o status atual sair primeiro
+     */
+    public SseEmitter assinarPedido(Long pedidoId, Supplier<PedidoStatusEvento> estadoAtual) {
+        Assinante assinante = registrar(porPedido, pedidoId, true);
+        PedidoStatusEvento atual;
+        try {
+            atual = estadoAtual.get();
+        } catch (RuntimeException e) {
+            assinante.remover();
+            throw e;
+        }
+        assinante.iniciar(atual);
+        return assinante.emitter;
+    }
+
+    /**
+     * Assinar as mudanças de todos os pedidos de um restaurante
+     */
+    public SseEmitter assinarRestaurante(Long restauranteId) {
+        return registrar(porRestaurante, restauranteId, false).emitter;
+    }
+
+    // Só após o commit: assinantes nunca veem um status que sofreu rollback
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoMudarStatus(PedidoStatusEvento evento) {
+        log.debug("Publicando status do pedido {}: {} -> {}", evento.pedidoId(), evento.statusAnterior(), evento.status());
+        notificar(porPedido, evento.pedidoId(), evento);
+        if (evento.restauranteId() != null) {
+            notificar(porRestaurante, evento.restauranteId(), evento);
+        }
+    }
+
+    private Assinante registrar(Map<Long, Set<Assinante>> assinantes, Long chave, boolean aguardarInicial) {
+        Assinante assinante = new Assinante(new SseEmitter(TIMEOUT), assinantes, chave, aguardarInicial);
+        // Dentro do compute: um remover() concorrente não descarta o conjunto antes do add
+        assinantes.compute(chave, (id, atuais) -> {
+            Set<Assinante> conjunto = atuais != null ? atuais : new CopyOnWriteArraySet<>();
+            conjunto.add(assinante);
+            return conjunto;
+        });
+
+        Runnable remover = assinante::remover;
+        assinante.emitter.onCompletion(remover);
+        assinante.emitter.onTimeout(remover);
+        assinante.emitter.onError(erro -> remover.run());
+        return assinante;
+    }
+
+    private void notificar(Map<Long, Set<Assinante>> assinantes, Long chave, PedidoStatusEvento evento) {
+        Set<Assinante> conjunto = assinantes.get(chave);
+        if (conjunto == null) {
+            return;
+        }
+        for (Assinante assinante : conjunto) {
+            assinante.publicar(evento);
+        }
+    }
+
+    /**
+     * Conexão SSE e seus eventos pendentes; no máximo um envio por vez, na ordem de publicação
+     */
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final Map<Long, Set<Assinante>> assinantes;
+        private final Long chave;
+        private final Queue<PedidoStatusEvento> pendentes = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger quantidadePendentes = new AtomicInteger();
+        private final AtomicReference<PedidoStatusEvento> inicial = new AtomicReference<>();
+        // Enquanto aguarda o evento inicial, fica "agendado" sem envio: os publicados só se acumulam
+        private final AtomicBoolean agendado;
+
+        private Assinante(SseEmitter emitter, Map<Long, Set<Assinante>> assinantes, Long chave,
+                          boolean aguardarInicial) {
+            this.emitter = emitter;
+            this.assinantes = assinantes;
+            this.chave = chave;
+            this.agendado = new AtomicBoolean(aguardarInicial);
+        }
+
+        void iniciar(PedidoStatusEvento evento) {
+            inicial.set(evento);
+            agendado.set(false);
+            agendar();
+        }
+
+        void publicar(PedidoStatusEvento evento) {
+            if (quantidadePendentes.incrementAndGet() > MAXIMO_PENDENTES) {
+                log.warn("Assinante SSE de {} com {} eventos pendentes: desconectando", chave, MAXIMO_PENDENTES);
+                remover();
+                emitter.complete();
+                return;
+            }
+            pendentes.add(evento);
+            agendar();
+        }
+
+        private void agendar() {
+            if (agendado.compareAndSet(false, true)) {
+                try {
+                    envio.execute(this::enviarPendentes);
+                } catch (RejectedExecutionException e) {
+                    // Pool encerrado (desligamento da aplicação)
+                    agendado.set(false);
+                }
+            }
+        }
+
+        private void enviarPendentes() {
+            PedidoStatusEvento primeiro = inicial.getAndSet(null);
+            if (primeiro != null) {
+                enviar(primeiro);
+            }
+            PedidoStatusEvento evento;
+            while ((evento = pendentes.poll()) != null) {
+                quantidadePendentes.decrementAndGet();
+                enviar(evento);
+            }
+            agendado.set(false);
+            // Evento publicado entre o último poll e a liberação do agendamento
+            if (!pendentes.isEmpty()) {
+                agendar();
+            }
+        }
+
+        private void enviar(PedidoStatusEvento evento) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(NOME_EVENTO)
+                        .id(evento.pedidoId() + ":" + evento.status())
+                        .data(evento));
+            } catch (IOException e) {
+                // Cliente desconectou: descartar a conexão
+                remover();
+                pendentes.clear();
+                emitter.completeWithError(e);
+            } catch (IllegalStateException e) {
+                // Emitter já concluído (timeout/conclusão concorrente)
+                remover();
+                pendentes.clear();
+            }
+        }
+
+        private void remover() {
+            assinantes.computeIfPresent(chave, (id, conjunto) -> {
+                conjunto.remove(this);
+                return conjunto.isEmpty() ? null : conjunto;
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.deliverutech.delivery_api.evento;
+
+import java.time.LocalDateTime;
+
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.StatusPedido;
+
+/**
+ * Mudança de status de um pedido, publicada pelo PedidoService e enviada aos
+ * assinantes SSE depois do commit
+ */
+public record PedidoStatusEvento(Long pedidoId, Long restauranteId, StatusPedido statusAnterior,
+                                 StatusPedido status, LocalDateTime dataHora) {
+
+    public static PedidoStatusEvento de(Pedido pedido, StatusPedido statusAnterior) {
+        Long restauranteId = pedido.getRestaurante() != null ? pedido.getRestaurante().getId() : null;
+        return new PedidoStatusEvento(pedido.getId(), restauranteId, statusAnterior, pedido.getStatus(),
+                LocalDateTime.now());
+    }
+}
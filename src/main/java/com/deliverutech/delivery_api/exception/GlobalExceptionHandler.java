@@ -1,8 +1,10 @@
 package com.deliverutech.delivery_api.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -84,6 +86,40 @@ public class GlobalExceptionHandler {
         return handleGenericException(ex);
     }
 
+    /**
+     * Tratamento para conflitos de concorrência (recurso alterado por outra requisição)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex) {
+        
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.CONFLICT.value());
+        error.put("error", "Conflito de atualização");
+        error.put("message", ex.getMessage());
+        
+        log.warn("Conflito de concorrência: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Tratamento para Idempotency-Key repetida com outro corpo de requisição
+     */
+    @ExceptionHandler(IdempotenciaConflitoException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotenciaConflitoException(
+            IdempotenciaConflitoException ex) {
+        
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.UNPROCESSABLE_CONTENT.value());
+        error.put("error", "Idempotency-Key reutilizada");
+        error.put("message", ex.getMessage());
+        
+        log.warn("Idempotency-Key reutilizada: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(error);
+    }
+
     /**
      * Tratamento para violações de constraint
      */
@@ -101,6 +137,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    /**
+     * Tratamento para Content-Type não aceito pelo endpoint (ex.: importações)
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<Map<String, Object>> handleHttpMediaTypeNotSupportedException(
+            HttpMediaTypeNotSupportedException ex) {
+        
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        error.put("error", "Tipo de conteúdo não suportado");
+        error.put("message", ex.getMessage());
+        
+        log.warn("Tipo de conteúdo não suportado: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(error);
+    }
+
     /**
      * Tratamento genérico para exceções não tratadas
      */
@@ -0,0 +1,11 @@
+package com.deliverutech.delivery_api.exception;
+
+public class IdempotenciaConflitoException extends BusinessException {
+
+    public IdempotenciaConflitoException(String chave) {
+        super(
+            String.format("Idempotency-Key %s já foi usada com outro corpo de requisição", chave),
+            "idempotencia.conflito"
+        );
+    }
+}
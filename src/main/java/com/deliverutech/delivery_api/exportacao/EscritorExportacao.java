@@ -0,0 +1,16 @@
+package com.deliverutech.delivery_api.exportacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Grava as linhas de uma exportação, uma a uma, direto na saída (nada é acumulado)
+ */
+public interface EscritorExportacao extends Closeable {
+
+    /**
+     * @param linha valores por coluna, na ordem das colunas da exportação
+     */
+    void escrever(Map<String, Object> linha) throws IOException;
+}
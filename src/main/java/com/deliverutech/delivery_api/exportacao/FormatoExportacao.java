@@ -0,0 +1,115 @@
+package com.deliverutech.delivery_api.exportacao;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Formatos de exportação: NDJSON (um objeto JSON por linha) ou CSV (RFC 4180, com cabeçalho)
+ */
+public enum FormatoExportacao {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson") {
+        @Override
+        public EscritorExportacao abrir(OutputStream saida, JsonMapper jsonMapper, List<String> colunas) {
+            OutputStream buffer = new BufferedOutputStream(saida, TAMANHO_BUFFER);
+            return new EscritorExportacao() {
+                @Override
+                public void escrever(Map<String, Object> linha) throws IOException {
+                    buffer.write(jsonMapper.writeValueAsBytes(linha));
+                    buffer.write('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    buffer.flush();
+                }
+            };
+        }
+    },
+
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv") {
+        @Override
+        public EscritorExportacao abrir(OutputStream saida, JsonMapper jsonMapper, List<String> colunas)
+                throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+            escreverLinhaCsv(writer, colunas);
+            return new EscritorExportacao() {
+                @Override
+                public void escrever(Map<String, Object> linha) throws IOException {
+                    escreverLinhaCsv(writer, colunas.stream().map(linha::get).toList());
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.flush();
+                }
+            };
+        }
+    };
+
+    // A saída do servlet bloqueia quando o cliente não lê: cada buffer cheio espera o cliente
+    private static final int TAMANHO_BUFFER = 8 * 1024;
+
+    private final MediaType mediaType;
+    private final String extensao;
+
+    FormatoExportacao(MediaType mediaType, String extensao) {
+        this.mediaType = mediaType;
+        this.extensao = extensao;
+    }
+
+    /**
+     * Escritor sobre a saída; fechá-lo só descarrega o buffer (a saída continua aberta)
+     * @param colunas ordem das colunas (cabeçalho do CSV)
+     */
+    public abstract EscritorExportacao abrir(OutputStream saida, JsonMapper jsonMapper, List<String> colunas)
+            throws IOException;
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    /**
+     * @throws IllegalArgumentException se o formato não for ndjson nem csv
+     */
+    public static FormatoExportacao de(String formato) {
+        for (FormatoExportacao valor : values()) {
+            if (valor.extensao.equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Formato inválido: " + formato + " (use ndjson ou csv)");
+    }
+
+    private static void escreverLinhaCsv(Writer writer, List<?> valores) throws IOException {
+        for (int i = 0; i < valores.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object valor = valores.get(i);
+            if (valor != null) {
+                String texto = valor instanceof BigDecimal decimal ? decimal.toPlainString() : valor.toString();
+                boolean aspas = texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0
+                        || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0;
+                writer.write(aspas ? '"' + texto.replace("\"", "\"\"") + '"' : texto);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
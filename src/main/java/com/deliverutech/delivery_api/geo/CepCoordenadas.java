@@ -0,0 +1,75 @@
+package com.deliverutech.delivery_api.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Converte CEP em coordenada pela tabela local de prefixos (geo/cep-prefixos.csv),
+ * sem chamar serviço externo. Vale o prefixo mais longo que casar com o CEP.
+ */
+@Slf4j
+@Component
+public class CepCoordenadas {
+
+    private static final int DIGITOS_CEP = 8;
+
+    private final Map<String, Coordenada> prefixos = new HashMap<>();
+    private int maiorPrefixo;
+
+    public CepCoordenadas(@Value("${geo.cep-prefixos:classpath:geo/cep-prefixos.csv}") Resource tabela) {
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(tabela.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linha = linha.strip();
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split(";");
+                String prefixo = campos[0];
+                prefixos.put(prefixo, new Coordenada(Double.parseDouble(campos[1]), Double.parseDouble(campos[2])));
+                maiorPrefixo = Math.max(maiorPrefixo, prefixo.length());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar a tabela de prefixos de CEP", e);
+        }
+        log.info("Tabela de CEP carregada com {} prefixos", prefixos.size());
+    }
+
+    /**
+     * Coordenada aproximada do CEP
+     * @param cep com ou sem hífen
+     * @return vazio se nenhum prefixo da tabela cobrir o CEP
+     * @throws IllegalArgumentException se o CEP não tiver 8 dígitos
+     */
+    public Optional<Coordenada> localizar(String cep) {
+        String digitos = normalizar(cep);
+        for (int tamanho = Math.min(maiorPrefixo, digitos.length()); tamanho > 0; tamanho--) {
+            Coordenada coordenada = prefixos.get(digitos.substring(0, tamanho));
+            if (coordenada != null) {
+                return Optional.of(coordenada);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String normalizar(String cep) {
+        String digitos = cep == null ? "" : cep.replace("-", "").strip();
+        if (digitos.length() != DIGITOS_CEP || !digitos.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("CEP inválido: " + cep);
+        }
+        return digitos;
+    }
+}
@@ -0,0 +1,221 @@
+package com.deliverutech.delivery_api.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice espacial em memória dos restaurantes ativos com coordenada: grade de células
+ * de LADO_CELULA graus. A busca percorre anéis de células a partir da célula da origem
+ * e para assim que nenhum anel mais distante pode ter algo mais perto (ou dentro do raio).
+ * Montado na subida da aplicação e mantido pelo RestauranteService a cada escrita.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestauranteIndiceEspacial {
+
+    // ~1,1 km de latitude por célula: poucas dezenas de restaurantes por célula numa área densa
+    static final double LADO_CELULA = 0.01;
+    private static final double KM_POR_GRAU = Math.toRadians(Coordenada.RAIO_TERRA_KM);
+
+    private final RestauranteRepository restauranteRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Ponto> pontos = new HashMap<>();
+    private final Map<Long, List<Ponto>> celulas = new HashMap<>();
+    // Limites das células ocupadas (só crescem até a próxima reconstrução; servem para parar a busca)
+    private int linhaMin = Integer.MAX_VALUE, linhaMax = Integer.MIN_VALUE;
+    private int colunaMin = Integer.MAX_VALUE, colunaMax = Integer.MIN_VALUE;
+
+    /**
+     * Restaurante encontrado e sua distância até a origem
+     */
+    public record Vizinho(Long restauranteId, double distanciaKm) {
+    }
+
+    private record Ponto(Long id, Coordenada coordenada, long celula) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<Restaurante> restaurantes = restauranteRepository.findByAtivoTrue();
+        lock.writeLock().lock();
+        try {
+            pontos.clear();
+            celulas.clear();
+            linhaMin = colunaMin = Integer.MAX_VALUE;
+            linhaMax = colunaMax = Integer.MIN_VALUE;
+            restaurantes.forEach(r -> colocar(r.getId(), coordenada(r)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice espacial montado com {} restaurantes", pontos.size());
+    }
+
+    /**
+     * Refletir o estado do restaurante: ativo e com coordenada entra (ou muda de lugar),
+     * senão sai. Dentro de uma transação, só vale após o commit.
+     */
+    public void atualizar(Restaurante restaurante) {
+        Long id = restaurante.getId();
+        Coordenada coordenada = restaurante.isAtivo() ? coordenada(restaurante) : null;
+        aposCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                colocar(id, coordenada);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Os restaurantes mais próximos da origem, do mais perto para o mais longe
+     * @param limite quantidade máxima (k)
+     * @param raioKm distância máxima; null para não limitar
+     */
+    public List<Vizinho> proximos(Coordenada origem, int limite, Double raioKm) {
+        double raio = raioKm == null ? Double.POSITIVE_INFINITY : raioKm;
+        // Heap invertido: o pior dos k melhores fica no topo
+        PriorityQueue<Vizinho> melhores = new PriorityQueue<>(
+                Comparator.comparingDouble(Vizinho::distanciaKm).reversed());
+
+        lock.readLock().lock();
+        try {
+            if (pontos.isEmpty() || limite <= 0) {
+                return List.of();
+            }
+            int linha = indice(origem.latitude());
+            int coluna = indice(origem.longitude());
+            int ultimoAnel = Math.max(
+                    Math.max(Math.abs(linha - linhaMin), Math.abs(linhaMax - linha)),
+                    Math.max(Math.abs(coluna - colunaMin), Math.abs(colunaMax - coluna)));
+            int celulasVisitadas = 0;
+
+            for (int anel = 0; anel <= ultimoAnel; anel++) {
+                double minimoDoAnel = distanciaMinimaAteAnel(origem, anel);
+                if (minimoDoAnel > raio
+                        || (melhores.size() == limite && minimoDoAnel > melhores.peek().distanciaKm())) {
+                    break;
+                }
+                // Origem longe de tudo: varrer a grade sairia mais caro que olhar cada ponto
+                celulasVisitadas += anel == 0 ? 1 : 8 * anel;
+                if (celulasVisitadas > pontos.size()) {
+                    melhores.clear();
+                    pontos.values().forEach(p -> considerar(p, origem, raio, limite, melhores));
+                    break;
+                }
+                for (int l = linha - anel; l <= linha + anel; l++) {
+                    boolean borda = l == linha - anel || l == linha + anel;
+                    int passo = borda ? 1 : 2 * anel;
+                    for (int c = coluna - anel; c <= coluna + anel; c += passo) {
+                        for (Ponto ponto : celulas.getOrDefault(chave(l, c), List.of())) {
+                            considerar(ponto, origem, raio, limite, melhores);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Vizinho> resultado = new ArrayList<>(melhores);
+        resultado.sort(Comparator.comparingDouble(Vizinho::distanciaKm));
+        return resultado;
+    }
+
+    private static void considerar(Ponto ponto, Coordenada origem, double raio, int limite,
+                                   PriorityQueue<Vizinho> melhores) {
+        double distancia = origem.distanciaKm(ponto.coordenada());
+        if (distancia > raio) {
+            return;
+        }
+        if (melhores.size() < limite) {
+            melhores.add(new Vizinho(ponto.id(), distancia));
+        } else if (distancia < melhores.peek().distanciaKm()) {
+            melhores.poll();
+            melhores.add(new Vizinho(ponto.id(), distancia));
+        }
+    }
+
+    // Qualquer ponto fora dos anéis anteriores está ao menos (anel - 1) células inteiras
+    // de distância em latitude ou em longitude (a longitude encolhe com cos(latitude))
+    private static double distanciaMinimaAteAnel(Coordenada origem, int anel) {
+        if (anel <= 1) {
+            return 0;
+        }
+        double graus = (anel - 1) * LADO_CELULA;
+        double latitudeExtrema = Math.min(89.0, Math.abs(origem.latitude()) + anel * LADO_CELULA);
+        return graus * KM_POR_GRAU * Math.cos(Math.toRadians(latitudeExtrema));
+    }
+
+    // Chamar com o write lock
+    private void colocar(Long id, Coordenada coordenada) {
+        Ponto anterior = pontos.remove(id);
+        if (anterior != null) {
+            List<Ponto> celula = celulas.get(anterior.celula());
+            celula.remove(anterior);
+            if (celula.isEmpty()) {
+                celulas.remove(anterior.celula());
+            }
+        }
+        if (coordenada == null) {
+            return;
+        }
+        int linha = indice(coordenada.latitude());
+        int coluna = indice(coordenada.longitude());
+        Ponto ponto = new Ponto(id, coordenada, chave(linha, coluna));
+        pontos.put(id, ponto);
+        celulas.computeIfAbsent(ponto.celula(), c -> new ArrayList<>()).add(ponto);
+        linhaMin = Math.min(linhaMin, linha);
+        linhaMax = Math.max(linhaMax, linha);
+        colunaMin = Math.min(colunaMin, coluna);
+        colunaMax = Math.max(colunaMax, coluna);
+    }
+
+    private static Coordenada coordenada(Restaurante restaurante) {
+        if (restaurante.getLatitude() == null || restaurante.getLongitude() == null) {
+            return null;
+        }
+        return new Coordenada(restaurante.getLatitude(), restaurante.getLongitude());
+    }
+
+    private static int indice(double graus) {
+        return (int) Math.floor(graus / LADO_CELULA);
+    }
+
+    private static long chave(int linha, int coluna) {
+        return ((long) linha << 32) | (coluna & 0xffffffffL);
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.deliverutech.delivery_api.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Formatos de importação: NDJSON (um objeto JSON por linha) ou CSV (RFC 4180, com cabeçalho).
+ * A entrada é lida em stream; uma linha malformada vira erro daquela linha, e a leitura continua.
+ */
+public enum FormatoImportacao {
+
+    NDJSON("ndjson") {
+        @Override
+        public LeitorImportacao abrir(InputStream entrada, JsonMapper jsonMapper) {
+            BufferedReader reader = reader(entrada);
+            return new LeitorImportacao() {
+                private long numero;
+
+                @Override
+                public Linha proxima() throws IOException {
+                    StringBuilder texto = new StringBuilder();
+                    while (true) {
+                        boolean completa = lerLinha(reader, texto);
+                        if (!completa && texto.isEmpty()) {
+                            return null;
+                        }
+                        numero++;
+                        if (texto.length() > TAMANHO_MAXIMO_LINHA) {
+                            return Linha.invalida(numero, "Linha maior que " + TAMANHO_MAXIMO_LINHA + " caracteres");
+                        }
+                        if (!texto.toString().isBlank()) {
+                            return ler(numero, texto.toString());
+                        }
+                        texto.setLength(0);
+                    }
+                }
+
+                private Linha ler(long numero, String json) {
+                    Map<?, ?> objeto;
+                    try {
+                        objeto = jsonMapper.readValue(json, Map.class);
+                    } catch (JacksonException e) {
+                        return Linha.invalida(numero, "JSON inválido: " + e.getOriginalMessage());
+                    }
+                    if (objeto == null) {
+                        return Linha.invalida(numero, "Esperado um objeto JSON");
+                    }
+                    Map<String, String> campos = new HashMap<>();
+                    objeto.forEach((campo, valor) -> campos.put(String.valueOf(campo),
+                            valor == null ? null : String.valueOf(valor)));
+                    return Linha.valida(numero, campos);
+                }
+
+                @Override
+                public void close() {
+                    // A entrada é da requisição; quem a abriu fecha
+                }
+            };
+        }
+    },
+
+    CSV("csv") {
+        @Override
+        public LeitorImportacao abrir(InputStream entrada, JsonMapper jsonMapper) throws IOException {
+            LeitorCsv csv = new LeitorCsv(reader(entrada));
+            List<String> cabecalho = csv.registro();
+            if (cabecalho == null || csv.erro != null) {
+                throw new IllegalArgumentException("CSV sem cabeçalho válido");
+            }
+            List<String> colunas = cabecalho.stream().map(String::strip).toList();
+            if (!colunas.isEmpty() && colunas.get(0).startsWith("\uFEFF")) {
+                colunas = new ArrayList<>(colunas);
+                colunas.set(0, colunas.get(0).substring(1));
+            }
+            List<String> nomes = colunas;
+            return new LeitorImportacao() {
+                @Override
+                public Linha proxima() throws IOException {
+                    while (true) {
+                        long numero = csv.linha + 1;
+                        List<String> valores = csv.registro();
+                        if (valores == null) {
+                            return null;
+                        }
+                        if (csv.erro != null) {
+                            return Linha.invalida(numero, csv.erro);
+                        }
+                        if (valores.size() == 1 && valores.get(0).isEmpty()) {
+                            continue;
+                        }
+                        if (valores.size() != nomes.size()) {
+                            return Linha.invalida(numero, "Esperadas " + nomes.size() + " colunas, encontradas "
+                                    + valores.size());
+                        }
+                        Map<String, String> campos = new HashMap<>();
+                        for (int i = 0; i < nomes.size(); i++) {
+                            campos.put(nomes.get(i), valores.get(i));
+                        }
+                        return Linha.valida(numero, campos);
+                    }
+                }
+
+                @Override
+                public void close() {
+                    // A entrada é da requisição; quem a abriu fecha
+                }
+            };
+        }
+    };
+
+    private static final int TAMANHO_BUFFER = 8 * 1024;
+    // Limite por registro: uma linha gigante não pode ocupar a memória da importação
+    private static final int TAMANHO_MAXIMO_LINHA = 64 * 1024;
+
+    private final String extensao;
+
+    FormatoImportacao(String extensao) {
+        this.extensao = extensao;
+    }
+
+    /**
+     * Leitor sobre a entrada; fechá-lo não fecha a entrada
+     * @throws IllegalArgumentException se o cabeçalho do CSV não puder ser lido
+     */
+    public abstract LeitorImportacao abrir(InputStream entrada, JsonMapper jsonMapper) throws IOException;
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    /**
+     * @throws IllegalArgumentException se o formato não for ndjson nem csv
+     */
+    public static FormatoImportacao de(String formato) {
+        for (FormatoImportacao valor : values()) {
+            if (valor.extensao.equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Formato inválido: " + formato + " (use ndjson ou csv)");
+    }
+
+    private static BufferedReader reader(InputStream entrada) {
+        return new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+    }
+
+    // Lê até o fim da linha; passado o limite, descarta o resto. false se a entrada acabou antes do '\n'.
+    private static boolean lerLinha(BufferedReader reader, StringBuilder texto) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return true;
+            }
+            if (c != '\r' && texto.length() <= TAMANHO_MAXIMO_LINHA) {
+                texto.append((char) c);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registros CSV: campos entre aspas podem ter vírgula, aspas duplicadas ("") e quebra de linha
+     */
+    private static final class LeitorCsv {
+
+        private final BufferedReader reader;
+        // Linhas físicas consumidas até aqui
+        private long linha;
+        // Erro do último registro lido (null se ele estava bem formado)
+        private String erro;
+
+        private LeitorCsv(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return campos do próximo registro; null no fim da entrada
+         */
+        List<String> registro() throws IOException {
+            erro = null;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> campos = new ArrayList<>();
+            StringBuilder campo = new StringBuilder();
+            int tamanho = 0;
+            boolean entreAspas = false;
+            while (true) {
+                if (++tamanho > TAMANHO_MAXIMO_LINHA && erro == null) {
+                    erro = "Registro maior que " + TAMANHO_MAXIMO_LINHA + " caracteres";
+                }
+                if (entreAspas) {
+                    if (c == -1) {
+                        erro = "Aspas sem fechamento";
+                        linha++;
+                        campos.add(campo.toString());
+                        return campos;
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            campo.append('"');
+                        } else {
+                            reader.reset();
+                            entreAspas = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            linha++;
+                        }
+                        acrescentar(campo, c);
+                    }
+                } else if (c == '"' && campo.isEmpty()) {
+                    entreAspas = true;
+                } else if (c == ',') {
+                    campos.add(campo.toString());
+                    campo.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    linha++;
+                    campos.add(campo.toString());
+                    return campos;
+                } else if (c != '\r') {
+                    acrescentar(campo, c);
+                }
+                c = reader.read();
+            }
+        }
+
+        private void acrescentar(StringBuilder campo, int c) {
+            if (erro == null) {
+                campo.append((char) c);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.deliverutech.delivery_api.importacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Lê as linhas de uma importação, uma a uma, direto da entrada (nada é acumulado)
+ */
+public interface LeitorImportacao extends Closeable {
+
+    /**
+     * Próxima linha da entrada
+     * @return null no fim da entrada
+     */
+    Linha proxima() throws IOException;
+
+    /**
+     * Linha lida: valores por coluna, ou o erro de leitura (a linha é rejeitada e a leitura segue)
+     * @param numero linha do arquivo onde o registro começa (no CSV, o cabeçalho é a linha 1)
+     */
+    record Linha(long numero, Map<String, String> campos, String erro) {
+
+        static Linha valida(long numero, Map<String, String> campos) {
+            return new Linha(numero, campos, null);
+        }
+
+        static Linha invalida(long numero, String erro) {
+            return new Linha(numero, Map.of(), erro);
+        }
+    }
+}
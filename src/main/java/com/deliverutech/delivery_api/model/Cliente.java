@@ -15,8 +15,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 public class Cliente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cliente_seq")
+    @SequenceGenerator(name = "cliente_seq", sequenceName = "cliente_seq", allocationSize = 50)
     private Long id;
+    @Column(nullable = false)
     private String nome;
     private String telefone;
     private String endereco;
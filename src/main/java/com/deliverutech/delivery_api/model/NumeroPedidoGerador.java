@@ -0,0 +1,60 @@
+package com.deliverutech.delivery_api.model;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+
+import org.hibernate.annotations.ValueGenerationType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Número legível do pedido: data + id em base 32 (Crockford, sem I, L, O e U), ex.: 261017-0001Z.
+ * Único porque o id é único. Gerado pelo Hibernate no persist, já com o id tirado do bloco
+ * da sequência em memória: sai no mesmo INSERT do pedido, sem ida extra ao banco.
+ */
+public class NumeroPedidoGerador implements BeforeExecutionGenerator {
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final char[] ALFABETO = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int DIGITOS_MINIMOS = 5;
+
+    /**
+     * Marca o campo que recebe o número na inserção do pedido
+     */
+    @ValueGenerationType(generatedBy = NumeroPedidoGerador.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD})
+    public @interface NumeroPedido {
+    }
+
+    public static String gerar(Long id, LocalDateTime dataPedido) {
+        StringBuilder base32 = new StringBuilder();
+        for (long resto = id; resto > 0; resto >>>= 5) {
+            base32.append(ALFABETO[(int) (resto & 31)]);
+        }
+        while (base32.length() < DIGITOS_MINIMOS) {
+            base32.append('0');
+        }
+        return dataPedido.format(FORMATO_DATA) + "-" + base32.reverse();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        Pedido pedido = (Pedido) owner;
+        LocalDateTime data = pedido.getDataPedido() != null ? pedido.getDataPedido() : LocalDateTime.now();
+        return gerar(pedido.getId(), data);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
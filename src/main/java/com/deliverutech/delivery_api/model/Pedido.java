@@ -7,13 +7,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+// Índices criados pela migração V2__indices_pedido.sql (declarados aqui para documentar o mapeamento)
+@Table(name = "pedido", indexes = {
+        @Index(name = "idx_pedido_cliente_data", columnList = "cliente_id, data_pedido"),
+        @Index(name = "idx_pedido_restaurante_data", columnList = "restaurante_id, data_pedido"),
+        @Index(name = "idx_pedido_status_data", columnList = "status, data_pedido, id"),
+        @Index(name = "idx_pedido_data", columnList = "data_pedido, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Pedido {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pedido_seq")
+    @SequenceGenerator(name = "pedido_seq", sequenceName = "pedido_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -26,12 +34,17 @@ public class Pedido {
 
     // Mudança 16/07
     private BigDecimal valorTotal;
+    // Preenchido na inserção (NumeroPedidoGerador)
+    @NumeroPedidoGerador.NumeroPedido
+    @Column(updatable = false)
     private String numeroPedido;
     private BigDecimal subtotal;
     private String observacoes;
 
 
+    // Fora dos UPDATEs da entidade: muda só pelo UPDATE condicional de PedidoRepository.atualizarStatusSe
     @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
     private StatusPedido status;
 
     @Builder.Default
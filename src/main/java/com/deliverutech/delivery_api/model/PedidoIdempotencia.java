@@ -0,0 +1,73 @@
+package com.deliverutech.delivery_api.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resposta da criação de um pedido, guardada pela Idempotency-Key enviada pelo cliente.
+ * A chave é informada (não gerada): Persistable evita o SELECT do merge no save,
+ * e o INSERT sai junto com o do pedido, no flush do commit.
+ */
+@Entity
+@Table(name = "pedido_idempotencia")
+@Data
+@NoArgsConstructor
+public class PedidoIdempotencia implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String chave;
+
+    @Column(name = "pedido_id", nullable = false)
+    private Long pedidoId;
+
+    // SHA-256 (hex) do corpo da requisição que criou o pedido
+    @Column(name = "hash_requisicao", length = 64)
+    private String hashRequisicao;
+
+    // PedidoResponse em JSON
+    @Lob
+    @Column(nullable = false)
+    private String resposta;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Transient
+    private boolean novo = true;
+
+    public PedidoIdempotencia(String chave, Long pedidoId, String hashRequisicao, String resposta,
+                              LocalDateTime criadoEm) {
+        this.chave = chave;
+        this.pedidoId = pedidoId;
+        this.hashRequisicao = hashRequisicao;
+        this.resposta = resposta;
+        this.criadoEm = criadoEm;
+    }
+
+    @Override
+    public String getId() {
+        return chave;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    void carregado() {
+        novo = false;
+    }
+}
@@ -3,29 +3,42 @@ package com.deliverutech.delivery_api.model;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+// Lido em quase toda requisição e alterado raramente: cache de segundo nível.
+// READ_WRITE: as escritas pela entidade (atualizar, inativar, alterarStatus) atualizam o cache no commit.
+// As coleções (produtos, pedidos) não são cacheadas.
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "restaurante")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Restaurante {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurante_seq")
+    @SequenceGenerator(name = "restaurante_seq", sequenceName = "restaurante_seq", allocationSize = 50)
     private Long id;
 
+    @Column(nullable = false)
     private String nome;
 
     private String categoria;
@@ -34,10 +47,19 @@ public class Restaurante {
 
     private BigDecimal avaliacao;
 
+    @Column(nullable = false)
     private BigDecimal taxaEntrega;
 
     private Integer tempoEntregaMinutos;
 
+    @Column(length = 9)
+    private String cep;
+
+    // Aproximadas pelo prefixo do CEP
+    private Double latitude;
+
+    private Double longitude;
+
     @Builder.Default
     private boolean ativo = true;
 
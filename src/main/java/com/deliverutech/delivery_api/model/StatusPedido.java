@@ -1,5 +1,11 @@
 package com.deliverutech.delivery_api.model;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum StatusPedido {
     CRIADO("Criado"),
     PENDENTE("Pendente"),
@@ -9,6 +15,25 @@ public enum StatusPedido {
     ENTREGUE("Entregue"),
     CANCELADO("Cancelado");
 
+    /**
+     * Status que contam como venda nos relatórios (pedido confirmado e não cancelado)
+     */
+    public static final Set<StatusPedido> COM_RECEITA = Collections.unmodifiableSet(
+            EnumSet.of(CONFIRMADO, PREPARANDO, SAIU_PARA_ENTREGA, ENTREGUE));
+
+    /**
+     * Transições permitidas a partir de cada status; status sem entrada são finais
+     */
+    private static final Map<StatusPedido, Set<StatusPedido>> TRANSICOES = new EnumMap<>(StatusPedido.class);
+
+    static {
+        TRANSICOES.put(CRIADO, EnumSet.of(CONFIRMADO, CANCELADO));
+        TRANSICOES.put(PENDENTE, EnumSet.of(CONFIRMADO, CANCELADO));
+        TRANSICOES.put(CONFIRMADO, EnumSet.of(PREPARANDO, CANCELADO));
+        TRANSICOES.put(PREPARANDO, EnumSet.of(SAIU_PARA_ENTREGA, CANCELADO));
+        TRANSICOES.put(SAIU_PARA_ENTREGA, EnumSet.of(ENTREGUE));
+    }
+
     private final String descricao;
 
     StatusPedido(String descricao) {
@@ -18,4 +43,20 @@ public enum StatusPedido {
     public String getDescricao() {
         return descricao;
     }
+
+    public boolean geraReceita() {
+        return COM_RECEITA.contains(this);
+    }
+
+    public boolean isFinal() {
+        return !TRANSICOES.containsKey(this);
+    }
+
+    public Set<StatusPedido> getProximos() {
+        return Collections.unmodifiableSet(TRANSICOES.getOrDefault(this, EnumSet.noneOf(StatusPedido.class)));
+    }
+
+    public boolean podeMudarPara(StatusPedido novoStatus) {
+        return getProximos().contains(novoStatus);
+    }
 }
@@ -0,0 +1,52 @@
+package com.deliverutech.delivery_api.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rollup de vendas por dia, restaurante e produto.
+ * Mantido de forma incremental pelas transições de status dos pedidos
+ * (somente pedidos com receita) e reconstruível a partir de pedido/item_pedido.
+ */
+@Entity
+@Table(name = "vendas_diarias")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaDiaria {
+
+    @EmbeddedId
+    private Chave id;
+
+    @Column(name = "quantidade_itens", nullable = false)
+    private Long quantidadeItens;
+
+    @Column(name = "valor_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal valorTotal;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+
+        @Column(name = "data_venda", nullable = false)
+        private LocalDate data;
+
+        @Column(name = "restaurante_id", nullable = false)
+        private Long restauranteId;
+
+        @Column(name = "produto_id", nullable = false)
+        private Long produtoId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.deliverutech.delivery_api.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Rollup de pedidos por dia e restaurante (quantidade de pedidos não é somável
+ * a partir de vendas_diarias, pois um pedido tem vários produtos).
+ */
+@Entity
+@Table(name = "vendas_diarias_restaurante")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendaDiariaRestaurante {
+
+    @EmbeddedId
+    private Chave id;
+
+    @Column(name = "quantidade_pedidos", nullable = false)
+    private Long quantidadePedidos;
+
+    @Column(name = "valor_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal valorTotal;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+
+        @Column(name = "data_venda", nullable = false)
+        private LocalDate data;
+
+        @Column(name = "restaurante_id", nullable = false)
+        private Long restauranteId;
+    }
+}
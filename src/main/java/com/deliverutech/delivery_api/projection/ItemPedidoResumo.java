@@ -0,0 +1,12 @@
+package com.deliverutech.delivery_api.projection;
+
+import java.math.BigDecimal;
+
+// Item de pedido com o nome do produto, para montar PedidoResponse em lote
+public interface ItemPedidoResumo {
+    Long getPedidoId();
+    Long getProdutoId();
+    String getNomeProduto();
+    Integer getQuantidade();
+    BigDecimal getPrecoUnitario();
+}
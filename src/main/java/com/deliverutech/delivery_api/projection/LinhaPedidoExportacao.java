@@ -0,0 +1,26 @@
+package com.deliverutech.delivery_api.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliverutech.delivery_api.model.StatusPedido;
+
+/**
+ * Uma linha por item de pedido (pedido sem itens vem com os campos de item nulos)
+ */
+public interface LinhaPedidoExportacao {
+        Long getPedidoId();
+        String getNumeroPedido();
+        LocalDateTime getDataPedido();
+        StatusPedido getStatus();
+        Long getClienteId();
+        String getClienteNome();
+        Long getRestauranteId();
+        String getRestauranteNome();
+        BigDecimal getValorTotal();
+        Long getProdutoId();
+        String getProdutoNome();
+        Integer getQuantidade();
+        BigDecimal getPrecoUnitario();
+        BigDecimal getSubtotal();
+}
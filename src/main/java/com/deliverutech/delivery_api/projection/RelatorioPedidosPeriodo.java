@@ -0,0 +1,12 @@
+package com.deliverutech.delivery_api.projection;
+
+import java.math.BigDecimal;
+
+// Pedidos agrupados por dia, mês ou ano
+public interface RelatorioPedidosPeriodo {
+    String getPeriodo();
+
+    Long getQuantidadePedidos();
+
+    BigDecimal getValorTotal();
+}
@@ -0,0 +1,9 @@
+package com.deliverutech.delivery_api.projection;
+
+import java.math.BigDecimal;
+
+public interface ResumoVendas {
+    Long getTotalPedidos();
+    BigDecimal getValorTotalVendas();
+    Long getRestaurantesAtivos();
+}
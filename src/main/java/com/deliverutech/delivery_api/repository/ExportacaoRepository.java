@@ -0,0 +1,59 @@
+package com.deliverutech.delivery_api.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.projection.LinhaPedidoExportacao;
+import com.deliverutech.delivery_api.projection.RelatorioVendas;
+import com.deliverutech.delivery_api.projection.RelatorioVendasProdutos;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Consultas das exportações, devolvidas como Stream: o Hibernate percorre o resultado com um
+ * cursor forward-only (ScrollableResults), buscando FETCH_SIZE linhas por vez, e as projeções
+ * não entram no contexto de persistência. Precisam ser consumidas (e fechadas) dentro de uma
+ * transação.
+ */
+public interface ExportacaoRepository extends Repository<Pedido, Long> {
+
+    String FETCH_SIZE = "500";
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id AS pedidoId, p.numeroPedido AS numeroPedido, p.dataPedido AS dataPedido, " +
+           "p.status AS status, c.id AS clienteId, c.nome AS clienteNome, " +
+           "r.id AS restauranteId, r.nome AS restauranteNome, p.valorTotal AS valorTotal, " +
+           "pr.id AS produtoId, pr.nome AS produtoNome, i.quantidade AS quantidade, " +
+           "i.precoUnitario AS precoUnitario, i.subtotal AS subtotal " +
+           "FROM Pedido p LEFT JOIN p.cliente c LEFT JOIN p.restaurante r " +
+           "LEFT JOIN p.itens i LEFT JOIN i.produto pr " +
+           "WHERE p.dataPedido BETWEEN :inicio AND :fim " +
+           // Itens do mesmo pedido chegam juntos; a ordem segue idx_pedido_data
+           "ORDER BY p.dataPedido, p.id, i.id")
+    Stream<LinhaPedidoExportacao> pedidosComItens(
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE))
+    @Query(RelatorioRepository.VENDAS_POR_RESTAURANTE)
+    Stream<RelatorioVendas> vendasPorRestaurante(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE))
+    @Query(RelatorioRepository.PRODUTOS_MAIS_VENDIDOS)
+    Stream<RelatorioVendasProdutos> produtosMaisVendidos(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+}
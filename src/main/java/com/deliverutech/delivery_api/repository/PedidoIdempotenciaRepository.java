@@ -0,0 +1,29 @@
+package com.deliverutech.delivery_api.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.deliverutech.delivery_api.model.PedidoIdempotencia;
+
+public interface PedidoIdempotenciaRepository extends JpaRepository<PedidoIdempotencia, String> {
+
+    /**
+     * Remover as chaves criadas antes do limite (já expiradas)
+     * @return quantidade de chaves removidas
+     */
+    @Modifying
+    @Query("DELETE FROM PedidoIdempotencia i WHERE i.criadoEm < :limite")
+    int excluirCriadasAntesDe(@Param("limite") LocalDateTime limite);
+
+    /**
+     * Remover a chave se ela foi criada antes do limite (já expirada)
+     * @return 1 se removeu, 0 se a chave não existe ou ainda vale
+     */
+    @Modifying
+    @Query("DELETE FROM PedidoIdempotencia i WHERE i.chave = :chave AND i.criadoEm < :limite")
+    int excluirSeCriadaAntesDe(@Param("chave") String chave, @Param("limite") LocalDateTime limite);
+}
@@ -2,23 +2,63 @@ package com.deliverutech.delivery_api.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.deliverutech.delivery_api.model.Pedido;
 import com.deliverutech.delivery_api.model.StatusPedido;
+import com.deliverutech.delivery_api.projection.ItemPedidoResumo;
+
+import jakarta.persistence.LockModeType;
 
 public interface PedidoRepository extends JpaRepository<Pedido, Long> {
-    
+
+    // Listagens carregam cliente e restaurante no mesmo SELECT (evita uma consulta por pedido)
+    @Override
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
+    List<Pedido> findAll();
+
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByClienteId(Long clienteId);
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByRestauranteId(Long restauranteId);
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByStatus(StatusPedido status);
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByDataPedidoBetween(LocalDateTime inicio, LocalDateTime fim);
 
+    //=== STATUS ===
+
+    /**
+     * Mudar o status apenas se ele ainda for o lido pelo chamador (compare-and-set)
+     * @return 1 se atualizou, 0 se o pedido não existe ou o status mudou nesse meio tempo
+     */
+    @Modifying
+    @Query("UPDATE Pedido p SET p.status = :novoStatus WHERE p.id = :id AND p.status = :statusAtual")
+    int atualizarStatusSe(@Param("id") Long id,
+                          @Param("statusAtual") StatusPedido statusAtual,
+                          @Param("novoStatus") StatusPedido novoStatus);
+
+    @Query("SELECT p.status FROM Pedido p WHERE p.id = :id")
+    Optional<StatusPedido> buscarStatus(@Param("id") Long id);
+
+    /**
+     * Carregar o pedido travando a linha (SELECT ... FOR UPDATE) até o fim da transação:
+     * status, itens e valorTotal lidos pelo chamador não mudam até ele gravar
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Pedido p WHERE p.id = :id")
+    Optional<Pedido> buscarParaAlterar(@Param("id") Long id);
+
      // ADICIONAR: Query com JOIN FETCH para carregar itens
     @Query("SELECT p FROM Pedido p LEFT JOIN FETCH p.itens i LEFT JOIN FETCH i.produto WHERE p.id = :id")
     Optional<Pedido> findByIdWithItens(@Param("id") Long id);
@@ -56,16 +96,69 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
     /**
      * Buscar por status e período
      */
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByStatusAndDataPedidoBetween(StatusPedido status, LocalDateTime inicio, LocalDateTime fim);
 
     /**
      * Buscar pedidos a partir de uma data
      */
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByDataPedidoGreaterThanEqual(LocalDateTime data);
 
     /**
      * Buscar pedidos até uma data
      */
+    @EntityGraph(attributePaths = {"cliente", "restaurante"})
     List<Pedido> findByDataPedidoLessThanEqual(LocalDateTime data);
 
+    //=== PAGINAÇÃO KEYSET (dataPedido DESC, id DESC) ===
+
+    /**
+     * Próxima página de pedidos no período, a partir do cursor (exclusivo)
+     */
+    @Query("SELECT p FROM Pedido p " +
+           "LEFT JOIN FETCH p.cliente " +
+           "LEFT JOIN FETCH p.restaurante " +
+           "WHERE p.dataPedido BETWEEN :inicio AND :fim " +
+           "AND (p.dataPedido < :cursorData OR (p.dataPedido = :cursorData AND p.id < :cursorId)) " +
+           "ORDER BY p.dataPedido DESC, p.id DESC")
+    List<Pedido> buscarPaginaKeyset(
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("cursorData") LocalDateTime cursorData,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * Próxima página de pedidos por status no período, a partir do cursor (exclusivo)
+     */
+    @Query("SELECT p FROM Pedido p " +
+           "LEFT JOIN FETCH p.cliente " +
+           "LEFT JOIN FETCH p.restaurante " +
+           "WHERE p.status = :status " +
+           "AND p.dataPedido BETWEEN :inicio AND :fim " +
+           "AND (p.dataPedido < :cursorData OR (p.dataPedido = :cursorData AND p.id < :cursorId)) " +
+           "ORDER BY p.dataPedido DESC, p.id DESC")
+    List<Pedido> buscarPaginaKeysetPorStatus(
+            @Param("status") StatusPedido status,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("cursorData") LocalDateTime cursorData,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * Itens de um lote de pedidos com o nome do produto, em uma única consulta
+     * (projeção: não carrega ItemPedido nem Produto)
+     */
+    @Query("SELECT i.pedido.id AS pedidoId, " +
+           "pr.id AS produtoId, " +
+           "pr.nome AS nomeProduto, " +
+           "i.quantidade AS quantidade, " +
+           "i.precoUnitario AS precoUnitario " +
+           "FROM ItemPedido i JOIN i.produto pr " +
+           "WHERE i.pedido.id IN :pedidoIds " +
+           "ORDER BY i.id")
+    List<ItemPedidoResumo> buscarItensResumidos(@Param("pedidoIds") Collection<Long> pedidoIds);
+
 }
@@ -1,20 +1,24 @@
 package com.deliverutech.delivery_api.repository;
 
 import com.deliverutech.delivery_api.model.Produto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
-public interface ProdutoRepository extends JpaRepository<Produto, Long> {
+// Listagens cacheáveis: ids no cache de consultas, produtos no cache de segundo nível
+public interface ProdutoRepository extends JpaRepository<Produto, Long>, JpaSpecificationExecutor<Produto> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Produto> findByRestauranteId(Long restauranteId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Produto> findByDisponivelTrue();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Produto> findByCategoria(String categoria);
     
-    @Query("SELECT p FROM Produto p WHERE LOWER(p.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
-    List<Produto> findByNomeContainingIgnoreCase(@Param("nome") String nome);
-    
     @Query(value = "SELECT p.nome, COUNT(ip.produto_id) as quantidade_vendida " +
                    "FROM produto p " +
                    "LEFT JOIN item_pedido ip ON p.id = ip.produto_id " +
@@ -0,0 +1,124 @@
+package com.deliverutech.delivery_api.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.StatusPedido;
+import com.deliverutech.delivery_api.projection.RelatorioPedidosPeriodo;
+import com.deliverutech.delivery_api.projection.RelatorioVendas;
+import com.deliverutech.delivery_api.projection.RelatorioVendasClientes;
+import com.deliverutech.delivery_api.projection.RelatorioVendasProdutos;
+import com.deliverutech.delivery_api.projection.ResumoVendas;
+
+/**
+ * Consultas agregadas dos relatórios gerenciais.
+ * Todas agrupam no banco e devolvem projeções (nenhuma entidade é carregada).
+ * Vendas e totais por período leem o rollup diário (vendas_diarias*), que já
+ * contém apenas pedidos com receita; consultas por cliente leem pedido.
+ */
+public interface RelatorioRepository extends Repository<Pedido, Long> {
+
+    // Compartilhadas com ExportacaoRepository, que percorre o mesmo resultado em stream
+    String VENDAS_POR_RESTAURANTE = "SELECT r.nome AS nomeRestaurante, " +
+           "SUM(v.valorTotal) AS totalVendas, " +
+           "SUM(v.quantidadePedidos) AS quantidadePedidos " +
+           "FROM VendaDiariaRestaurante v JOIN Restaurante r ON r.id = v.id.restauranteId " +
+           "WHERE v.id.data BETWEEN :inicio AND :fim AND v.quantidadePedidos > 0 " +
+           "GROUP BY r.id, r.nome " +
+           "ORDER BY SUM(v.valorTotal) DESC";
+
+    String PRODUTOS_MAIS_VENDIDOS = "SELECT pr.id AS idProduto, " +
+           "pr.nome AS nomeProduto, " +
+           "SUM(v.valorTotal) AS totalVendas, " +
+           "SUM(v.quantidadeItens) AS quantidadeItemPedido " +
+           "FROM VendaDiaria v JOIN Produto pr ON pr.id = v.id.produtoId " +
+           "WHERE v.id.data BETWEEN :inicio AND :fim AND v.quantidadeItens > 0 " +
+           "GROUP BY pr.id, pr.nome " +
+           "ORDER BY SUM(v.quantidadeItens) DESC, SUM(v.valorTotal) DESC";
+
+    @Query(VENDAS_POR_RESTAURANTE)
+    List<RelatorioVendas> vendasPorRestaurante(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    @Query(PRODUTOS_MAIS_VENDIDOS)
+    List<RelatorioVendasProdutos> produtosMaisVendidos(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim,
+            Pageable pageable);
+
+    // Lê pedido direto: o rollup diário não guarda cliente
+    @Query("SELECT c.id AS idCliente, " +
+           "c.nome AS nomeCliente, " +
+           "SUM(p.valorTotal) AS totalCompras, " +
+           "COUNT(p.id) AS quantidadePedidos " +
+           "FROM Pedido p JOIN p.cliente c " +
+           "WHERE p.status IN :status AND p.dataPedido BETWEEN :inicio AND :fim " +
+           "GROUP BY c.id, c.nome " +
+           "ORDER BY COUNT(p.id) DESC, SUM(p.valorTotal) DESC")
+    List<RelatorioVendasClientes> clientesMaisAtivos(
+            @Param("status") Collection<StatusPedido> status,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            Pageable pageable);
+
+    //=== ROLLUP DIÁRIO (vendas_diarias_restaurante) ===
+
+    @Query("SELECT format(v.id.data AS 'yyyy-MM-dd') AS periodo, " +
+           "SUM(v.quantidadePedidos) AS quantidadePedidos, " +
+           "SUM(v.valorTotal) AS valorTotal " +
+           "FROM VendaDiariaRestaurante v " +
+           "WHERE v.id.data BETWEEN :inicio AND :fim AND v.quantidadePedidos > 0 " +
+           "GROUP BY format(v.id.data AS 'yyyy-MM-dd') " +
+           "ORDER BY 1")
+    List<RelatorioPedidosPeriodo> pedidosPorDia(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    @Query("SELECT format(v.id.data AS 'yyyy-MM') AS periodo, " +
+           "SUM(v.quantidadePedidos) AS quantidadePedidos, " +
+           "SUM(v.valorTotal) AS valorTotal " +
+           "FROM VendaDiariaRestaurante v " +
+           "WHERE v.id.data BETWEEN :inicio AND :fim AND v.quantidadePedidos > 0 " +
+           "GROUP BY format(v.id.data AS 'yyyy-MM') " +
+           "ORDER BY 1")
+    List<RelatorioPedidosPeriodo> pedidosPorMes(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    @Query("SELECT format(v.id.data AS 'yyyy') AS periodo, " +
+           "SUM(v.quantidadePedidos) AS quantidadePedidos, " +
+           "SUM(v.valorTotal) AS valorTotal " +
+           "FROM VendaDiariaRestaurante v " +
+           "WHERE v.id.data BETWEEN :inicio AND :fim AND v.quantidadePedidos > 0 " +
+           "GROUP BY format(v.id.data AS 'yyyy') " +
+           "ORDER BY 1")
+    List<RelatorioPedidosPeriodo> pedidosPorAno(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    @Query("SELECT COALESCE(SUM(v.quantidadePedidos), 0) AS totalPedidos, " +
+           "COALESCE(SUM(v.valorTotal), 0) AS valorTotalVendas, " +
+           "COUNT(DISTINCT v.id.restauranteId) AS restaurantesAtivos " +
+           "FROM VendaDiariaRestaurante v " +
+           "WHERE v.id.data BETWEEN :inicio AND :fim AND v.quantidadePedidos > 0")
+    ResumoVendas resumoVendas(
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim);
+
+    // Clientes distintos não são somáveis por dia: conta direto em pedido
+    @Query("SELECT COUNT(DISTINCT p.cliente.id) FROM Pedido p " +
+           "WHERE p.status IN :status AND p.dataPedido BETWEEN :inicio AND :fim")
+    long contarClientesAtivos(
+            @Param("status") Collection<StatusPedido> status,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+}
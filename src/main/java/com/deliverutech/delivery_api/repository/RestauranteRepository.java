@@ -3,13 +3,26 @@ package com.deliverutech.delivery_api.repository;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.deliverutech.delivery_api.model.Restaurante;
 
-public interface RestauranteRepository extends JpaRepository<Restaurante, Long> {
+import jakarta.persistence.QueryHint;
+
+/**
+ * Listagens marcadas como cacheáveis guardam só os ids no cache de consultas (invalidado a cada
+ * escrita na tabela); as entidades vêm do cache de segundo nível
+ */
+public interface RestauranteRepository extends JpaRepository<Restaurante, Long>, JpaSpecificationExecutor<Restaurante> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Restaurante> findAll();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Restaurante> findByCategoria(String categoria);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Restaurante> findByAtivoTrue();
     List<Restaurante> findByAvaliacaoGreaterThanEqual(BigDecimal avaliacao);
     List<Restaurante> findByTaxaEntregaLessThanEqual(BigDecimal taxa);
@@ -21,6 +34,8 @@ public interface RestauranteRepository extends JpaRepository<Restaurante, Long>
            "LEFT JOIN Pedido p ON r.id = p.restaurante.id " +
            "GROUP BY r.id, r.nome")
     List<RelatorioVendas> relatorioVendasPorRestaurante();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Restaurante> findByAtivoFalse();
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Restaurante> findByCategoriaAndAtivo(String categoria, Boolean ativo);
 }
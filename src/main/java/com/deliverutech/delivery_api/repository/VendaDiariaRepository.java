@@ -0,0 +1,53 @@
+package com.deliverutech.delivery_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.deliverutech.delivery_api.model.VendaDiaria;
+
+import jakarta.persistence.QueryHint;
+
+public interface VendaDiariaRepository extends JpaRepository<VendaDiaria, VendaDiaria.Chave> {
+
+    /**
+     * Somar (ou subtrair, com valores negativos) na linha existente
+     * @return quantidade de linhas atualizadas (0 se a linha ainda não existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VendaDiaria v " +
+           "SET v.quantidadeItens = v.quantidadeItens + :quantidade, v.valorTotal = v.valorTotal + :valor " +
+           "WHERE v.id = :id")
+    int somar(@Param("id") VendaDiaria.Chave id,
+              @Param("quantidade") long quantidade,
+              @Param("valor") BigDecimal valor);
+
+    @Modifying
+    @Query("DELETE FROM VendaDiaria v WHERE v.id.data BETWEEN :inicio AND :fim")
+    int excluirPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    /**
+     * Recalcular o período a partir de pedido/item_pedido (INSERT ... SELECT no banco)
+     */
+    // Só a tabela do rollup muda: sem isso o Hibernate esvaziaria todo o cache de segundo nível
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vendas_diarias"))
+    @Modifying
+    @Query(value = "INSERT INTO vendas_diarias (data_venda, restaurante_id, produto_id, quantidade_itens, valor_total) " +
+                   "SELECT CAST(p.data_pedido AS DATE), p.restaurante_id, i.produto_id, SUM(i.quantidade), SUM(i.subtotal) " +
+                   "FROM pedido p JOIN item_pedido i ON i.pedido_id = p.id " +
+                   "WHERE p.status IN (:status) " +
+                   "AND p.data_pedido >= :inicio AND p.data_pedido < :fimExclusivo " +
+                   "GROUP BY CAST(p.data_pedido AS DATE), p.restaurante_id, i.produto_id",
+           nativeQuery = true)
+    int reconstruirPeriodo(@Param("status") Collection<String> status,
+                           @Param("inicio") LocalDateTime inicio,
+                           @Param("fimExclusivo") LocalDateTime fimExclusivo);
+}
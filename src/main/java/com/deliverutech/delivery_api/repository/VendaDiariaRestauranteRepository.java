@@ -0,0 +1,54 @@
+package com.deliverutech.delivery_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.deliverutech.delivery_api.model.VendaDiariaRestaurante;
+
+import jakarta.persistence.QueryHint;
+
+public interface VendaDiariaRestauranteRepository
+        extends JpaRepository<VendaDiariaRestaurante, VendaDiariaRestaurante.Chave> {
+
+    /**
+     * Somar (ou subtrair, com valores negativos) na linha existente
+     * @return quantidade de linhas atualizadas (0 se a linha ainda não existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE VendaDiariaRestaurante v " +
+           "SET v.quantidadePedidos = v.quantidadePedidos + :pedidos, v.valorTotal = v.valorTotal + :valor " +
+           "WHERE v.id = :id")
+    int somar(@Param("id") VendaDiariaRestaurante.Chave id,
+              @Param("pedidos") long pedidos,
+              @Param("valor") BigDecimal valor);
+
+    @Modifying
+    @Query("DELETE FROM VendaDiariaRestaurante v WHERE v.id.data BETWEEN :inicio AND :fim")
+    int excluirPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    /**
+     * Recalcular o período a partir da tabela pedido (INSERT ... SELECT no banco)
+     */
+    // Só a tabela do rollup muda: sem isso o Hibernate esvaziaria todo o cache de segundo nível
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vendas_diarias_restaurante"))
+    @Modifying
+    @Query(value = "INSERT INTO vendas_diarias_restaurante (data_venda, restaurante_id, quantidade_pedidos, valor_total) " +
+                   "SELECT CAST(p.data_pedido AS DATE), p.restaurante_id, COUNT(p.id), COALESCE(SUM(p.valor_total), 0) " +
+                   "FROM pedido p " +
+                   "WHERE p.status IN (:status) " +
+                   "AND p.data_pedido >= :inicio AND p.data_pedido < :fimExclusivo " +
+                   "GROUP BY CAST(p.data_pedido AS DATE), p.restaurante_id",
+           nativeQuery = true)
+    int reconstruirPeriodo(@Param("status") Collection<String> status,
+                           @Param("inicio") LocalDateTime inicio,
+                           @Param("fimExclusivo") LocalDateTime fimExclusivo);
+}
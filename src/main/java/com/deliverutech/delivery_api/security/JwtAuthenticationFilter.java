@@ -5,11 +5,10 @@ import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.deliverutech.delivery_api.repository.UsuarioRepository;
+import com.deliverutech.delivery_api.model.Usuario;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,7 +21,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
     @Autowired
-    private UsuarioRepository usuarioRepository;
+    private UsuarioAutenticadoCache usuarioAutenticadoCache;
 
      @Override
     protected void doFilterInternal(
@@ -33,10 +32,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         var token = this.recoverToken(request);
         if (token != null){
             var login = jwtUtil.getEmailFromToken(token);
-            UserDetails user = usuarioRepository.findByEmail(login);
+            // Token inválido, usuário inexistente ou inativo: segue sem autenticação
+            Usuario user = login != null ? usuarioAutenticadoCache.buscar(login).orElse(null) : null;
 
-            var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (user != null && user.isEnabled()) {
+                var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(request, response);
     }
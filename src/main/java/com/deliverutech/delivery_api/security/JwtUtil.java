@@ -1,6 +1,7 @@
 package com.deliverutech.delivery_api.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,6 +9,8 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
+
 import java.util.Date;
 
 import javax.crypto.SecretKey;
@@ -20,12 +23,23 @@ public class JwtUtil {
     
     @Value("${jwt.expiration}")
     private Long expiration;
+
+    // Chave e parser são imutáveis e thread-safe: criados uma única vez
+    private SecretKey key;
+    private JwtParser parser;
+
+    @PostConstruct
+    void inicializar() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secret));
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
     
     // Gera um token JWT para o usuário
     public String gerarToken(String email) {
         Date agora = new Date();
         Date dataExpiracao = new Date(agora.getTime() + expiration);
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secret));
         
         return Jwts.builder()
                 .subject(email)
@@ -38,12 +52,7 @@ public class JwtUtil {
     // Valida um token JWT e retorna as claims
     public Claims validarToken(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secret));
-
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
+            return parser.parseSignedClaims(token)
                     .getPayload();
         } catch (Exception e) {
             return null; // Token inválido
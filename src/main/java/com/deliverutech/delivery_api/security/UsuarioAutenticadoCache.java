@@ -0,0 +1,50 @@
+package com.deliverutech.delivery_api.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.deliverutech.delivery_api.model.Usuario;
+import com.deliverutech.delivery_api.repository.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache dos usuários autenticados por email (subject do token), usado pelo
+ * JwtAuthenticationFilter para não consultar o banco a cada requisição.
+ * Deve ser invalidado sempre que o usuário for alterado ou inativado.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsuarioAutenticadoCache {
+
+    private static final long TAMANHO_MAXIMO = 10_000;
+    private static final Duration EXPIRACAO = Duration.ofMinutes(5);
+
+    private final UsuarioRepository usuarioRepository;
+    private final Cache<String, Usuario> cache = Caffeine.newBuilder()
+            .maximumSize(TAMANHO_MAXIMO)
+            .expireAfterWrite(EXPIRACAO)
+            .build();
+
+    /**
+     * Buscar o usuário pelo email; emails inexistentes não são guardados
+     */
+    public Optional<Usuario> buscar(String email) {
+        return Optional.ofNullable(cache.get(email, this::carregar));
+    }
+
+    public void invalidar(String email) {
+        cache.invalidate(email);
+    }
+
+    private Usuario carregar(String email) {
+        log.debug("Carregando usuário autenticado do banco: {}", email);
+        return usuarioRepository.findByEmail(email) instanceof Usuario usuario ? usuario : null;
+    }
+}
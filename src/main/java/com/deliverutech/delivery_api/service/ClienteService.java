@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import com.deliverutech.delivery_api.dto.request.ClienteRequest;
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
 import com.deliverutech.delivery_api.model.Cliente;
 
 public interface ClienteService {
@@ -16,6 +18,12 @@ public interface ClienteService {
 
     List<Cliente> listarAtivos();
 
+    /**
+     * Clientes ativos paginados por cursor, como RestauranteService.listarPaginado (ordenações: id, nome)
+     */
+    PaginaCursorResponse<Cliente> listarAtivosPaginado(String ordenacao, ListagemCursor cursor, Integer tamanho,
+                                                       boolean contarTotal);
+
     List<Cliente> buscarPorNome(String nome);
 
     Cliente atualizar(Long id, ClienteRequest clienteRequest);
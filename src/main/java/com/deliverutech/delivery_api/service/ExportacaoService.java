@@ -0,0 +1,33 @@
+package com.deliverutech.delivery_api.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+import com.deliverutech.delivery_api.exportacao.FormatoExportacao;
+
+/**
+ * Exportações completas gravadas direto na saída, linha a linha, enquanto o banco é lido
+ * (memória constante, qualquer que seja o período)
+ */
+public interface ExportacaoService {
+
+    /**
+     * Pedidos do período com seus itens: no NDJSON um objeto por pedido com a lista de itens,
+     * no CSV uma linha por item (dados do pedido repetidos)
+     */
+    void exportarPedidos(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato, OutputStream saida)
+            throws IOException;
+
+    /**
+     * Vendas por restaurante no período, da maior para a menor
+     */
+    void exportarVendasPorRestaurante(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato,
+                                      OutputStream saida) throws IOException;
+
+    /**
+     * Ranking completo de produtos vendidos no período
+     */
+    void exportarProdutosMaisVendidos(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato,
+                                      OutputStream saida) throws IOException;
+}
@@ -0,0 +1,23 @@
+package com.deliverutech.delivery_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.deliverutech.delivery_api.dto.response.ImportacaoResponse;
+import com.deliverutech.delivery_api.importacao.FormatoImportacao;
+
+/**
+ * Importações em lote lidas direto da entrada, em blocos de linhas
+ * (memória limitada ao bloco, qualquer que seja o tamanho do arquivo)
+ */
+public interface ImportacaoService {
+
+    /**
+     * Cardápio do restaurante: uma linha por produto (nome, categoria, descricao, preco e,
+     * opcionalmente, disponivel). Cada bloco é validado em paralelo com as regras do cadastro
+     * unitário e gravado na sua própria transação; linhas inválidas vão para o relatório.
+     * @throws RuntimeException se o restaurante não existir
+     */
+    ImportacaoResponse importarProdutos(Long restauranteId, FormatoImportacao formato, InputStream entrada)
+            throws IOException;
+}
@@ -1,6 +1,10 @@
 package com.deliverutech.delivery_api.service;
 
 import com.deliverutech.delivery_api.dto.request.ItemPedidoRequest;
+import com.deliverutech.delivery_api.dto.request.PedidoCursor;
+import com.deliverutech.delivery_api.dto.request.PedidoRequest;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
+import com.deliverutech.delivery_api.dto.response.PedidoResponse;
 import java.time.LocalDate;
 
 import com.deliverutech.delivery_api.model.Pedido;
@@ -15,6 +19,12 @@ public interface PedidoService {
     
     // === OPERAÇÕES BÁSICAS ===
     Pedido criar(Pedido pedido);
+
+    /**
+     * Criar pedido (sem itens) para o cliente e restaurante da requisição
+     * @param chaveIdempotencia se informada, a resposta é registrada para a chave na mesma transação
+     */
+    PedidoResponse criar(PedidoRequest request, String chaveIdempotencia);
     Pedido buscarPorId(Long id);
     
     // === BUSCAS ESPECÍFICAS ===
@@ -23,12 +33,19 @@ public interface PedidoService {
     List<Pedido> buscarPorStatus(StatusPedido status);     
     
     // === GESTÃO DE STATUS ===
+    // Transições validadas por StatusPedido.podeMudarPara e aplicadas com UPDATE condicional
     Pedido atualizarStatus(Long id, StatusPedido status); 
     Pedido confirmar(Long id);                             
     Pedido cancelar(Long pedidoId); //MUDAR para retornar Pedido
     
     // === GESTÃO DE ITENS ===
     Pedido adicionarItem(Long pedidoId, Long produtoId, Integer quantidade);
+
+    /**
+     * Adicionar vários itens ao pedido em uma única transação.
+     * Os produtos são buscados de uma vez e o valor total é atualizado de forma incremental.
+     */
+    Pedido adicionarItens(Long pedidoId, List<ItemPedidoRequest> itens);
     
     // === CÁLCULOS ===
     BigDecimal calcularTotal(Pedido pedido);                
@@ -44,6 +61,20 @@ public interface PedidoService {
      * Listar pedidos com filtros opcionais
      */
     List<Pedido> listarComFiltros(StatusPedido status, LocalDate dataInicio, LocalDate dataFim);
+
+    /**
+     * Listar pedidos paginados por cursor (keyset em dataPedido, id), mais recentes primeiro.
+     * @param cursor posição da última linha da página anterior (null para a primeira página)
+     * @param tamanho quantidade máxima de pedidos na página
+     */
+    PaginaCursorResponse<Pedido> listarPaginado(StatusPedido status, LocalDate dataInicio, LocalDate dataFim,
+                                                PedidoCursor cursor, int tamanho);
+    
+    /**
+     * Montar as respostas de uma lista de pedidos com os itens de todos
+     * carregados em uma única consulta (sem inicializar a coleção itens)
+     */
+    List<PedidoResponse> montarRespostas(List<Pedido> pedidos);
     
     // === RELATÓRIOS ===
     List<Pedido> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim);
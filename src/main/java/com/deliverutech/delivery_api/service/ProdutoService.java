@@ -1,5 +1,7 @@
 package com.deliverutech.delivery_api.service;
 
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
 import com.deliverutech.delivery_api.model.Produto;
 
 import java.math.BigDecimal;
@@ -9,6 +11,13 @@ import java.util.Optional;
 public interface ProdutoService {
     // === OPERAÇÕES BÁSICAS ===
     Produto cadastrar(Produto produto);                        
+
+    /**
+     * Gravar vários produtos numa transação só (INSERTs em lote JDBC)
+     * @param produtos já validados (validarPreco), todos novos
+     */
+    List<Produto> cadastrarLote(List<Produto> produtos);
+
     Optional<Produto> buscarPorId(Long id);                   
     List<Produto> listarTodos();                              
     Produto atualizar(Long id, Produto produtoAtualizado);    
@@ -19,7 +28,13 @@ public interface ProdutoService {
     List<Produto> buscarPorRestaurante(Long restauranteId);   
     List<Produto> buscarPorCategoria(String categoria);       
     List<Produto> listarDisponiveis();
-    List<Produto> buscarPorNome(String nome);
+    List<Produto> buscarPorNome(String nome, int limite);
+
+    /**
+     * Produtos paginados por cursor, como RestauranteService.listarPaginado (ordenações: id, nome, preco)
+     */
+    PaginaCursorResponse<Produto> listarPaginado(String ordenacao, ListagemCursor cursor, Integer tamanho,
+                                                 boolean contarTotal);
 
     
     // === REGRAS DE NEGÓCIO ===
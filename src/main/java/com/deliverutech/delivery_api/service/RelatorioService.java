@@ -4,22 +4,26 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import com.deliverutech.delivery_api.projection.RelatorioVendas;
+import com.deliverutech.delivery_api.projection.RelatorioVendasClientes;
+import com.deliverutech.delivery_api.projection.RelatorioVendasProdutos;
+
 public interface RelatorioService {
     
     /**
      * Relatório de vendas por restaurante
      */
-    List<Map<String, Object>> relatorioVendasPorRestaurante(LocalDate dataInicio, LocalDate dataFim);
+    List<RelatorioVendas> relatorioVendasPorRestaurante(LocalDate dataInicio, LocalDate dataFim);
     
     /**
      * Relatório dos produtos mais vendidos
      */
-    List<Map<String, Object>> relatorioProdutosMaisVendidos(int limite, LocalDate dataInicio, LocalDate dataFim);
+    List<RelatorioVendasProdutos> relatorioProdutosMaisVendidos(int limite, LocalDate dataInicio, LocalDate dataFim);
     
     /**
      * Relatório dos clientes mais ativos
      */
-    List<Map<String, Object>> relatorioClientesAtivos(int limite, LocalDate dataInicio, LocalDate dataFim);
+    List<RelatorioVendasClientes> relatorioClientesAtivos(int limite, LocalDate dataInicio, LocalDate dataFim);
     
     /**
      * Relatório de pedidos por período
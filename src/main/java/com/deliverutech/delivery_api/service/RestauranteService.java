@@ -1,10 +1,13 @@
 package com.deliverutech.delivery_api.service;
 
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
 import com.deliverutech.delivery_api.dto.request.RestauranteRequest;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
 import com.deliverutech.delivery_api.model.Restaurante;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface RestauranteService {
@@ -62,9 +65,34 @@ public interface RestauranteService {
      */
     BigDecimal calcularTaxaEntrega(Long restauranteId, String cep);
 
+    /**
+     * Calcular a taxa de entrega de vários restaurantes para o mesmo CEP
+     * @return taxa por restaurante, na ordem pedida; null se o restaurante não existir ou estiver inativo
+     */
+    Map<Long, BigDecimal> cotarTaxasEntrega(List<Long> restauranteIds, String cep);
+
     Restaurante alterarStatus(Long id, Boolean ativo);
 
-    List<Restaurante> buscarProximos(String cep);
+    /**
+     * Restaurantes ativos mais próximos do CEP, do mais perto para o mais longe
+     * @param raioKm distância máxima em km; null para não limitar
+     * @param limite quantidade máxima de restaurantes
+     */
+    List<Restaurante> buscarProximos(String cep, Double raioKm, int limite);
+
+    default List<Restaurante> buscarProximos(String cep) {
+        return buscarProximos(cep, null, 10);
+    }
 
     List<Restaurante> listarComFiltros(String categoria, Boolean ativo);
+
+    /**
+     * Listar restaurantes paginados por cursor (keyset), com os mesmos filtros de listarComFiltros
+     * @param ordenacao "campo" ou "campo,asc|desc" (id, nome, taxaEntrega); null usa "nome" ou a do cursor
+     * @param cursor posição da última linha da página anterior (null para a primeira página)
+     * @param tamanho itens por página (padrão 20, máximo 100)
+     * @param contarTotal incluir o total de linhas do filtro (um COUNT a mais)
+     */
+    PaginaCursorResponse<Restaurante> listarPaginado(String categoria, Boolean ativo, String ordenacao,
+                                                     ListagemCursor cursor, Integer tamanho, boolean contarTotal);
 }
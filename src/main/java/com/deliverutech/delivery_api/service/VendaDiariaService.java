@@ -0,0 +1,35 @@
+package com.deliverutech.delivery_api.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+import com.deliverutech.delivery_api.model.ItemPedido;
+import com.deliverutech.delivery_api.model.Pedido;
+
+/**
+ * Manutenção do rollup diário de vendas (vendas_diarias e vendas_diarias_restaurante).
+ * Só pedidos com receita (StatusPedido.COM_RECEITA) devem ser registrados.
+ */
+public interface VendaDiariaService {
+
+    /**
+     * Somar o pedido e seus itens ao rollup do dia do pedido
+     */
+    void registrarPedido(Pedido pedido);
+
+    /**
+     * Remover o pedido e seus itens do rollup do dia do pedido
+     */
+    void estornarPedido(Pedido pedido);
+
+    /**
+     * Somar itens novos de um pedido já registrado (não altera a quantidade de pedidos)
+     */
+    void registrarItens(Pedido pedido, Collection<ItemPedido> itens);
+
+    /**
+     * Recalcular o rollup do período a partir de pedido/item_pedido
+     */
+    Map<String, Object> reconstruir(LocalDate dataInicio, LocalDate dataFim);
+}
@@ -1,13 +1,17 @@
 package com.deliverutech.delivery_api.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
 import com.deliverutech.delivery_api.dto.request.ClienteRequest;
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
 import com.deliverutech.delivery_api.model.Cliente;
 import com.deliverutech.delivery_api.repository.ClienteRepository;
 import com.deliverutech.delivery_api.service.ClienteService;
@@ -21,6 +25,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ClienteServiceImpl implements ClienteService {
 
+    private static final ListagemKeyset<Cliente> LISTAGEM = new ListagemKeyset<>(Cliente::getId, "nome", Map.of(
+            "nome", ListagemKeyset.Campo.texto("nome", Cliente::getNome)));
+
     private final ClienteRepository clienteRepository;
 
     @Override
@@ -69,6 +76,15 @@ public class ClienteServiceImpl implements ClienteService {
         return clienteRepository.findByAtivoTrue();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<Cliente> listarAtivosPaginado(String ordenacao, ListagemCursor cursor, Integer tamanho,
+                                                              boolean contarTotal) {
+        log.info("Buscando clientes ativos paginados - Ordenação: {}, Tamanho: {}", ordenacao, tamanho);
+        Specification<Cliente> ativos = (root, query, cb) -> cb.isTrue(root.get("ativo"));
+        return LISTAGEM.paginar(clienteRepository, ativos, ordenacao, cursor, tamanho, contarTotal);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Cliente> buscarPorNome(String nome) {
@@ -0,0 +1,182 @@
+package com.deliverutech.delivery_api.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverutech.delivery_api.exportacao.EscritorExportacao;
+import com.deliverutech.delivery_api.exportacao.FormatoExportacao;
+import com.deliverutech.delivery_api.projection.LinhaPedidoExportacao;
+import com.deliverutech.delivery_api.projection.RelatorioVendas;
+import com.deliverutech.delivery_api.projection.RelatorioVendasProdutos;
+import com.deliverutech.delivery_api.repository.ExportacaoRepository;
+import com.deliverutech.delivery_api.service.ExportacaoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Exportações em stream: cada linha lida do cursor é gravada e descartada.
+ * A escrita bloqueia enquanto o cliente não consome, e o cursor só avança depois dela.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportacaoServiceImpl implements ExportacaoService {
+
+    private static final LocalDateTime DATA_MINIMA = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime DATA_MAXIMA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final List<String> COLUNAS_PEDIDO = List.of(
+            "pedidoId", "numeroPedido", "dataPedido", "status", "clienteId", "clienteNome",
+            "restauranteId", "restauranteNome", "valorTotal");
+    private static final List<String> COLUNAS_ITEM = List.of(
+            "produtoId", "produtoNome", "quantidade", "precoUnitario", "subtotal");
+    private static final List<String> COLUNAS_VENDAS_RESTAURANTE = List.of(
+            "nomeRestaurante", "totalVendas", "quantidadePedidos");
+    private static final List<String> COLUNAS_PRODUTOS = List.of(
+            "idProduto", "nomeProduto", "totalVendas", "quantidadeItemPedido");
+
+    private final ExportacaoRepository exportacaoRepository;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public void exportarPedidos(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato,
+                                OutputStream saida) throws IOException {
+        log.info("Exportando pedidos ({}) - Período: {} a {}", formato, dataInicio, dataFim);
+        LocalDateTime inicio = dataInicio != null ? dataInicio.atStartOfDay() : DATA_MINIMA;
+        LocalDateTime fim = dataFim != null ? dataFim.atTime(23, 59, 59) : DATA_MAXIMA;
+
+        List<String> colunas = new ArrayList<>(COLUNAS_PEDIDO);
+        if (formato == FormatoExportacao.CSV) {
+            colunas.addAll(COLUNAS_ITEM);
+        } else {
+            colunas.add("itens");
+        }
+
+        long pedidos = 0;
+        try (Stream<LinhaPedidoExportacao> linhas = exportacaoRepository.pedidosComItens(inicio, fim);
+             EscritorExportacao escritor = formato.abrir(saida, jsonMapper, colunas)) {
+            Iterator<LinhaPedidoExportacao> iterator = linhas.iterator();
+            if (formato == FormatoExportacao.CSV) {
+                // Uma linha por item; as do mesmo pedido são consecutivas
+                Long ultimoPedido = null;
+                while (iterator.hasNext()) {
+                    LinhaPedidoExportacao linha = iterator.next();
+                    if (!linha.getPedidoId().equals(ultimoPedido)) {
+                        ultimoPedido = linha.getPedidoId();
+                        pedidos++;
+                    }
+                    Map<String, Object> valores = pedido(linha);
+                    valores.putAll(item(linha));
+                    escritor.escrever(valores);
+                }
+                return;
+            }
+
+            // NDJSON: linhas do mesmo pedido são consecutivas; só os itens do pedido atual ficam em memória
+            Map<String, Object> atual = null;
+            List<Map<String, Object>> itens = null;
+            while (iterator.hasNext()) {
+                LinhaPedidoExportacao linha = iterator.next();
+                if (atual == null || !atual.get("pedidoId").equals(linha.getPedidoId())) {
+                    if (atual != null) {
+                        escritor.escrever(atual);
+                        pedidos++;
+                    }
+                    atual = pedido(linha);
+                    itens = new ArrayList<>();
+                    atual.put("itens", itens);
+                }
+                if (linha.getProdutoId() != null) {
+                    itens.add(item(linha));
+                }
+            }
+            if (atual != null) {
+                escritor.escrever(atual);
+                pedidos++;
+            }
+        } finally {
+            log.debug("Exportação de pedidos encerrada - {} pedidos", pedidos);
+        }
+    }
+
+    @Override
+    public void exportarVendasPorRestaurante(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato,
+                                             OutputStream saida) throws IOException {
+        log.info("Exportando vendas por restaurante ({}) - Período: {} a {}", formato, dataInicio, dataFim);
+        try (Stream<RelatorioVendas> linhas = exportacaoRepository.vendasPorRestaurante(
+                     dia(dataInicio, DATA_MINIMA), dia(dataFim, DATA_MAXIMA));
+             EscritorExportacao escritor = formato.abrir(saida, jsonMapper, COLUNAS_VENDAS_RESTAURANTE)) {
+            Iterator<RelatorioVendas> iterator = linhas.iterator();
+            while (iterator.hasNext()) {
+                RelatorioVendas venda = iterator.next();
+                Map<String, Object> valores = new LinkedHashMap<>();
+                valores.put("nomeRestaurante", venda.getNomeRestaurante());
+                valores.put("totalVendas", venda.getTotalVendas());
+                valores.put("quantidadePedidos", venda.getQuantidadePedidos());
+                escritor.escrever(valores);
+            }
+        }
+    }
+
+    @Override
+    public void exportarProdutosMaisVendidos(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato,
+                                             OutputStream saida) throws IOException {
+        log.info("Exportando produtos mais vendidos ({}) - Período: {} a {}", formato, dataInicio, dataFim);
+        try (Stream<RelatorioVendasProdutos> linhas = exportacaoRepository.produtosMaisVendidos(
+                     dia(dataInicio, DATA_MINIMA), dia(dataFim, DATA_MAXIMA));
+             EscritorExportacao escritor = formato.abrir(saida, jsonMapper, COLUNAS_PRODUTOS)) {
+            Iterator<RelatorioVendasProdutos> iterator = linhas.iterator();
+            while (iterator.hasNext()) {
+                RelatorioVendasProdutos produto = iterator.next();
+                Map<String, Object> valores = new LinkedHashMap<>();
+                valores.put("idProduto", produto.getIdProduto());
+                valores.put("nomeProduto", produto.getNomeProduto());
+                valores.put("totalVendas", produto.getTotalVendas());
+                valores.put("quantidadeItemPedido", produto.getQuantidadeItemPedido());
+                escritor.escrever(valores);
+            }
+        }
+    }
+
+    private static Map<String, Object> pedido(LinhaPedidoExportacao linha) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        valores.put("pedidoId", linha.getPedidoId());
+        valores.put("numeroPedido", linha.getNumeroPedido());
+        valores.put("dataPedido", linha.getDataPedido());
+        valores.put("status", linha.getStatus());
+        valores.put("clienteId", linha.getClienteId());
+        valores.put("clienteNome", linha.getClienteNome());
+        valores.put("restauranteId", linha.getRestauranteId());
+        valores.put("restauranteNome", linha.getRestauranteNome());
+        valores.put("valorTotal", linha.getValorTotal());
+        return valores;
+    }
+
+    private static Map<String, Object> item(LinhaPedidoExportacao linha) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        valores.put("produtoId", linha.getProdutoId());
+        valores.put("produtoNome", linha.getProdutoNome());
+        valores.put("quantidade", linha.getQuantidade());
+        valores.put("precoUnitario", linha.getPrecoUnitario());
+        valores.put("subtotal", linha.getSubtotal());
+        return valores;
+    }
+
+    private static LocalDate dia(LocalDate data, LocalDateTime padrao) {
+        return data != null ? data : padrao.toLocalDate();
+    }
+}
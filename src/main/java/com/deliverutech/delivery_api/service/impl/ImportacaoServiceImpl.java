@@ -0,0 +1,208 @@
+package com.deliverutech.delivery_api.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import com.deliverutech.delivery_api.dto.request.ProdutoRequest;
+import com.deliverutech.delivery_api.dto.response.ImportacaoResponse;
+import com.deliverutech.delivery_api.dto.response.ImportacaoResponse.ErroLinha;
+import com.deliverutech.delivery_api.importacao.FormatoImportacao;
+import com.deliverutech.delivery_api.importacao.LeitorImportacao;
+import com.deliverutech.delivery_api.importacao.LeitorImportacao.Linha;
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+import com.deliverutech.delivery_api.service.ImportacaoService;
+import com.deliverutech.delivery_api.service.ProdutoService;
+
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Importações em blocos: lê tamanhoLote linhas, valida o bloco em paralelo e grava os válidos
+ * numa transação (ProdutoService.cadastrarLote), antes de ler o bloco seguinte.
+ * Sem transação própria: uma falha ao gravar desfaz só o bloco, que vai inteiro para o relatório.
+ * A validação roda num pool próprio, fora do ForkJoinPool comum.
+ */
+@Slf4j
+@Service
+public class ImportacaoServiceImpl implements ImportacaoService, AutoCloseable {
+
+    private final ProdutoService produtoService;
+    private final RestauranteRepository restauranteRepository;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final int tamanhoLote;
+    private final ForkJoinPool poolValidacao;
+
+    public ImportacaoServiceImpl(ProdutoService produtoService,
+                                 RestauranteRepository restauranteRepository,
+                                 Validator validator,
+                                 JsonMapper jsonMapper,
+                                 @Value("${importacao.tamanho-lote:500}") int tamanhoLote) {
+        this.produtoService = produtoService;
+        this.restauranteRepository = restauranteRepository;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.tamanhoLote = tamanhoLote;
+        // As threads do pool comum não têm o class loader da aplicação (no jar executável),
+        // e sem ele o Bean Validation não interpola as mensagens (ex.: ${inclusive ...})
+        ClassLoader classLoader = getClass().getClassLoader();
+        this.poolValidacao = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("importacao-validacao-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    @Override
+    public void close() {
+        poolValidacao.shutdownNow();
+    }
+
+    /**
+     * Linha já validada: o produto a gravar, ou as mensagens de erro
+     */
+    private record Validacao(long linha, Produto produto, List<String> mensagens) {
+    }
+
+    @Override
+    public ImportacaoResponse importarProdutos(Long restauranteId, FormatoImportacao formato, InputStream entrada)
+            throws IOException {
+        Restaurante restaurante = restauranteRepository.findById(restauranteId)
+                .orElseThrow(() -> new RuntimeException("Restaurante não encontrado - ID: " + restauranteId));
+        log.info("Importando produtos ({}) - Restaurante: {}", formato, restauranteId);
+        long inicio = System.nanoTime();
+
+        long lidas = 0;
+        long importados = 0;
+        List<ErroLinha> erros = new ArrayList<>();
+        try (LeitorImportacao leitor = formato.abrir(entrada, jsonMapper)) {
+            List<Linha> lote = new ArrayList<>(tamanhoLote);
+            Linha linha;
+            while ((linha = leitor.proxima()) != null) {
+                lidas++;
+                lote.add(linha);
+                if (lote.size() == tamanhoLote) {
+                    importados += gravar(lote, restaurante, erros);
+                    lote.clear();
+                }
+            }
+            if (!lote.isEmpty()) {
+                importados += gravar(lote, restaurante, erros);
+            }
+        }
+
+        log.info("Importação do restaurante {} concluída: {} linhas, {} importados, {} rejeitados em {} ms",
+                restauranteId, lidas, importados, lidas - importados, (System.nanoTime() - inicio) / 1_000_000);
+        return new ImportacaoResponse(lidas, importados, lidas - importados, erros);
+    }
+
+    // Valida o bloco em paralelo e grava os válidos; devolve quantos foram gravados
+    private int gravar(List<Linha> lote, Restaurante restaurante, List<ErroLinha> erros) {
+        // Stream paralelo disparado de dentro do pool: as subtarefas rodam nele
+        List<Validacao> validacoes = poolValidacao.submit(() -> lote.parallelStream()
+                .map(linha -> validar(linha, restaurante))
+                .toList()).join();
+
+        List<ErroLinha> errosLote = new ArrayList<>();
+        List<Validacao> validas = new ArrayList<>();
+        for (Validacao validacao : validacoes) {
+            if (validacao.produto() == null) {
+                errosLote.add(new ErroLinha(validacao.linha(), validacao.mensagens()));
+            } else {
+                validas.add(validacao);
+            }
+        }
+
+        int gravados = 0;
+        if (!validas.isEmpty()) {
+            try {
+                produtoService.cadastrarLote(validas.stream().map(Validacao::produto).toList());
+                gravados = validas.size();
+            } catch (DataAccessException | TransactionException e) {
+                String causa = e.getMostSpecificCause().getMessage();
+                log.warn("Falha ao gravar bloco de {} produtos: {}", validas.size(), causa);
+                String mensagem = "Falha ao gravar o bloco: " + causa;
+                validas.forEach(validacao -> errosLote.add(new ErroLinha(validacao.linha(), List.of(mensagem))));
+                errosLote.sort(Comparator.comparingLong(ErroLinha::getLinha));
+            }
+        }
+        erros.addAll(errosLote);
+        return gravados;
+    }
+
+    // Mesmas regras do POST /api/produtos: anotações de ProdutoRequest e validarPreco
+    private Validacao validar(Linha linha, Restaurante restaurante) {
+        if (linha.erro() != null) {
+            return new Validacao(linha.numero(), null, List.of(linha.erro()));
+        }
+        Map<String, String> campos = linha.campos();
+        List<String> mensagens = new ArrayList<>();
+
+        BigDecimal preco = null;
+        String textoPreco = preenchido(campos.get("preco"));
+        if (textoPreco != null) {
+            try {
+                preco = new BigDecimal(textoPreco);
+            } catch (NumberFormatException e) {
+                mensagens.add("preco: valor inválido: " + textoPreco);
+            }
+        }
+        boolean disponivel = true;
+        String textoDisponivel = preenchido(campos.get("disponivel"));
+        if (textoDisponivel != null) {
+            if (!textoDisponivel.equalsIgnoreCase("true") && !textoDisponivel.equalsIgnoreCase("false")) {
+                mensagens.add("disponivel: use true ou false");
+            }
+            disponivel = Boolean.parseBoolean(textoDisponivel);
+        }
+
+        ProdutoRequest request = new ProdutoRequest(campos.get("nome"), campos.get("categoria"),
+                campos.get("descricao"), preco, restaurante.getId());
+        boolean precoIlegivel = textoPreco != null && preco == null;
+        validator.validate(request).stream()
+                .filter(violacao -> !(precoIlegivel && violacao.getPropertyPath().toString().equals("preco")))
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .forEach(mensagens::add);
+        if (mensagens.isEmpty()) {
+            try {
+                produtoService.validarPreco(preco);
+            } catch (IllegalArgumentException e) {
+                mensagens.add("preco: " + e.getMessage());
+            }
+        }
+        if (!mensagens.isEmpty()) {
+            return new Validacao(linha.numero(), null, mensagens);
+        }
+
+        Produto produto = Produto.builder()
+                .nome(request.getNome())
+                .categoria(request.getCategoria())
+                .descricao(request.getDescricao())
+                .preco(preco.doubleValue())
+                .disponivel(disponivel)
+                .restaurante(restaurante)
+                .build();
+        return new Validacao(linha.numero(), produto, List.of());
+    }
+
+    private static String preenchido(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.strip();
+    }
+}
@@ -0,0 +1,129 @@
+package com.deliverutech.delivery_api.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
+
+/**
+ * Paginação keyset das listagens de catálogo: ordena por um campo da lista permitida e pelo id,
+ * e cada página continua de onde a anterior parou (WHERE (campo, id) > (valor, id) ... LIMIT),
+ * sem OFFSET: o custo da página não cresce com a quantidade de linhas.
+ * Os campos permitidos são NOT NULL e têm índice (campo, id), ambos na V6.
+ */
+final class ListagemKeyset<T> {
+
+    static final int TAMANHO_PAGINA_PADRAO = 20;
+    static final int TAMANHO_PAGINA_MAXIMO = 100;
+    private static final String ID = "id";
+
+    /**
+     * Campo ordenável: atributo da entidade, como ler o valor da linha e como reconstruí-lo do cursor
+     */
+    record Campo<T>(String atributo, Function<T, Object> valor, Function<String, Object> ler) {
+
+        static <T> Campo<T> texto(String atributo, Function<T, String> valor) {
+            return new Campo<>(atributo, valor::apply, texto -> texto);
+        }
+
+        static <T> Campo<T> decimal(String atributo, Function<T, BigDecimal> valor) {
+            return new Campo<>(atributo, valor::apply, BigDecimal::new);
+        }
+
+        static <T> Campo<T> numero(String atributo, Function<T, Double> valor) {
+            return new Campo<>(atributo, valor::apply, Double::valueOf);
+        }
+    }
+
+    private final Function<T, Long> id;
+    private final String ordenacaoPadrao;
+    private final Map<String, Campo<T>> campos;
+
+    /**
+     * @param campos lista permitida de ordenações, além de "id"
+     */
+    ListagemKeyset(Function<T, Long> id, String ordenacaoPadrao, Map<String, Campo<T>> campos) {
+        this.id = id;
+        this.ordenacaoPadrao = ordenacaoPadrao;
+        this.campos = campos;
+    }
+
+    /**
+     * Uma página da listagem filtrada
+     * @param ordenacao "campo" ou "campo,asc|desc"; null usa a padrão (ou a do cursor)
+     * @param cursor posição da última linha da página anterior (null para a primeira página)
+     * @param tamanho null usa TAMANHO_PAGINA_PADRAO
+     * @param contarTotal preencher total com um COUNT do filtro
+     * @throws IllegalArgumentException para ordenação fora da lista, tamanho fora do limite
+     *                                  ou cursor de outra ordenação
+     */
+    PaginaCursorResponse<T> paginar(JpaSpecificationExecutor<T> repositorio, Specification<T> filtro,
+                                    String ordenacao, ListagemCursor cursor, Integer tamanho, boolean contarTotal) {
+        int tamanhoPagina = tamanho == null ? TAMANHO_PAGINA_PADRAO : tamanho;
+        if (tamanhoPagina < 1 || tamanhoPagina > TAMANHO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("Tamanho da página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
+        }
+
+        String criterio = normalizar(ordenacao != null ? ordenacao
+                : cursor != null ? cursor.ordenacao() : ordenacaoPadrao);
+        if (cursor != null && !criterio.equals(cursor.ordenacao())) {
+            throw new IllegalArgumentException("Cursor gerado para outra ordenação: " + cursor.ordenacao());
+        }
+        String[] partes = criterio.split(",");
+        Campo<T> campo = ID.equals(partes[0]) ? null : campos.get(partes[0]);
+        Sort.Direction direcao = Sort.Direction.fromString(partes[1]);
+
+        // O id desempata valores repetidos e fecha a chave do keyset
+        Sort sort = campo == null
+                ? Sort.by(direcao, ID)
+                : Sort.by(direcao, campo.atributo()).and(Sort.by(direcao, ID));
+        KeysetScrollPosition posicao = cursor == null
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(campo == null
+                        ? Map.of(ID, cursor.id())
+                        : Map.of(campo.atributo(), ler(campo, cursor), ID, cursor.id()));
+
+        Window<T> janela = repositorio.<T, Window<T>>findBy(filtro,
+                consulta -> consulta.sortBy(sort).limit(tamanhoPagina).scroll(posicao));
+
+        String nextCursor = null;
+        if (janela.hasNext() && !janela.isEmpty()) {
+            T ultimo = janela.getContent().get(janela.size() - 1);
+            String valor = campo == null ? null : String.valueOf(campo.valor().apply(ultimo));
+            nextCursor = new ListagemCursor(criterio, valor, id.apply(ultimo)).codificar();
+        }
+        Long total = contarTotal ? repositorio.count(filtro) : null;
+        return new PaginaCursorResponse<>(new ArrayList<>(janela.getContent()), nextCursor, nextCursor != null, total);
+    }
+
+    // "nome" -> "nome,asc"; rejeita campo fora da lista permitida
+    private String normalizar(String ordenacao) {
+        String[] partes = ordenacao.strip().split(",");
+        String campo = partes[0].strip();
+        String direcao = partes.length > 1 ? partes[1].strip().toLowerCase() : "asc";
+        if (partes.length > 2 || (!ID.equals(campo) && !campos.containsKey(campo))
+                || (!direcao.equals("asc") && !direcao.equals("desc"))) {
+            throw new IllegalArgumentException("Ordenação inválida: " + ordenacao
+                    + " (permitidas: " + ID + ", " + String.join(", ", campos.keySet()) + ")");
+        }
+        return campo + "," + direcao;
+    }
+
+    private static Object ler(Campo<?> campo, ListagemCursor cursor) {
+        try {
+            return campo.ler().apply(cursor.valor());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido para a ordenação " + cursor.ordenacao());
+        }
+    }
+}
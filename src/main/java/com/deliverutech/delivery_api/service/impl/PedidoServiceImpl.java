@@ -1,13 +1,30 @@
 package com.deliverutech.delivery_api.service.impl;
 
+import com.deliverutech.delivery_api.cache.PedidoIdempotenciaCache;
+import com.deliverutech.delivery_api.cache.ProdutoPrecoCache;
+import com.deliverutech.delivery_api.cache.ProdutoPrecoCache.PrecoProduto;
 import com.deliverutech.delivery_api.dto.request.ItemPedidoRequest;
+import com.deliverutech.delivery_api.dto.request.PedidoCursor;
+import com.deliverutech.delivery_api.dto.request.PedidoRequest;
+import com.deliverutech.delivery_api.dto.response.ItemPedidoResponse;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
+import com.deliverutech.delivery_api.dto.response.PedidoResponse;
+import com.deliverutech.delivery_api.evento.PedidoStatusEvento;
 import com.deliverutech.delivery_api.model.*;
+import com.deliverutech.delivery_api.projection.ItemPedidoResumo;
+import com.deliverutech.delivery_api.repository.ClienteRepository;
 import com.deliverutech.delivery_api.repository.PedidoRepository;
 import com.deliverutech.delivery_api.repository.ProdutoRepository;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
 import com.deliverutech.delivery_api.service.PedidoService;
+import com.deliverutech.delivery_api.service.VendaDiariaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -15,7 +32,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,8 +44,21 @@ import java.util.Optional;
 @Transactional
 public class PedidoServiceImpl implements PedidoService {
 
+    // Limites usados quando o período não é informado na paginação keyset
+    private static final LocalDateTime DATA_MINIMA = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime DATA_MAXIMA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    // Tentativas do UPDATE condicional de status quando outro processo muda o pedido ao mesmo tempo
+    private static final int TENTATIVAS_STATUS = 3;
+
     private final PedidoRepository pedidoRepository;
     private final ProdutoRepository produtoRepository;
+    private final ClienteRepository clienteRepository;
+    private final RestauranteRepository restauranteRepository;
+    private final PedidoIdempotenciaCache pedidoIdempotenciaCache;
+    private final ProdutoPrecoCache produtoPrecoCache;
+    private final VendaDiariaService vendaDiariaService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Pedido criar(Pedido pedido) {
@@ -40,6 +74,28 @@ public class PedidoServiceImpl implements PedidoService {
         return pedidoSalvo;
     }
 
+    @Override
+    public PedidoResponse criar(PedidoRequest request, String chaveIdempotencia) {
+        Cliente cliente = clienteRepository.findById(request.getClienteId())
+                .orElseThrow(() -> new RuntimeException("Cliente não encontrado"));
+        Restaurante restaurante = restauranteRepository.findById(request.getRestauranteId())
+                .orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
+
+        Pedido salvo = criar(Pedido.builder()
+                .cliente(cliente)
+                .restaurante(restaurante)
+                .enderecoEntrega(request.getEnderecoEntrega())
+                .build());
+
+        // O número só é preenchido na entidade pelo INSERT (no flush do commit); o valor é o mesmo
+        PedidoResponse resposta = PedidoResponse.de(salvo, List.of());
+        resposta.setNumeroPedido(NumeroPedidoGerador.gerar(salvo.getId(), salvo.getDataPedido()));
+        if (chaveIdempotencia != null) {
+            pedidoIdempotenciaCache.registrar(chaveIdempotencia, request, resposta);
+        }
+        return resposta;
+    }
+
     // ✅ IMPLEMENTAR métodos básicos se não existirem
     @Override
     @Transactional(readOnly = true)
@@ -68,7 +124,8 @@ public class PedidoServiceImpl implements PedidoService {
 
     @Override
     public Pedido adicionarItem(Long pedidoId, Long produtoId, Integer quantidade) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
+        // Linha travada: o total recalculado parte dos itens já gravados por outras requisições
+        Pedido pedido = pedidoRepository.buscarParaAlterar(pedidoId)
                 .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
 
         Produto produto = produtoRepository.findById(produtoId)
@@ -92,18 +149,84 @@ public class PedidoServiceImpl implements PedidoService {
         BigDecimal novoTotal = calcularTotal(pedido);
         pedido.setValorTotal(novoTotal);
 
+        // Pedido já contabilizado: somar o item novo ao rollup diário
+        if (geraReceita(pedido.getStatus())) {
+            vendaDiariaService.registrarItens(pedido, List.of(item));
+        }
+
         return pedidoRepository.save(pedido);
     }
 
     @Override
-    public Pedido confirmar(Long pedidoId) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
+    public Pedido adicionarItens(Long pedidoId, List<ItemPedidoRequest> itens) {
+        // Linha travada até o commit: lotes concorrentes somam ao valorTotal um depois do outro,
+        // e um confirmar concorrente espera este lote (ou este lote vê o CONFIRMADO e é rejeitado)
+        Pedido pedido = pedidoRepository.buscarParaAlterar(pedidoId)
                 .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
 
-        pedido.setStatus(StatusPedido.CONFIRMADO);
+        if (pedido.getStatus() != StatusPedido.CRIADO) {
+            throw new IllegalArgumentException("Não é possível adicionar itens a um pedido com status " + pedido.getStatus());
+        }
+
+        // ✅ BUSCAR todos os produtos do lote em uma única consulta
+        Set<Long> produtoIds = itens.stream()
+                .map(ItemPedidoRequest::getProdutoId)
+                .collect(Collectors.toSet());
+        Map<Long, Produto> produtos = produtoRepository.findAllById(produtoIds).stream()
+                .collect(Collectors.toMap(Produto::getId, Function.identity()));
+
+        if (pedido.getItens() == null) {
+            pedido.setItens(new ArrayList<>());
+        }
+
+        // ✅ ATUALIZAR valor total somando apenas os novos itens
+        BigDecimal total = pedido.getValorTotal() == null ? BigDecimal.ZERO : pedido.getValorTotal();
+
+        for (ItemPedidoRequest itemRequest : itens) {
+            Produto produto = produtos.get(itemRequest.getProdutoId());
+            if (produto == null) {
+                throw new RuntimeException("Produto não encontrado - ID: " + itemRequest.getProdutoId());
+            }
+            if (!produto.getAtivo()) {
+                throw new IllegalArgumentException("Produto não está disponível - ID: " + produto.getId());
+            }
+            if (produto.getRestaurante() == null || pedido.getRestaurante() == null
+                    || !produto.getRestaurante().getId().equals(pedido.getRestaurante().getId())) {
+                throw new IllegalArgumentException("Produto não pertence ao restaurante do pedido - ID: " + produto.getId());
+            }
+
+            BigDecimal precoUnitario = produto.getPreco() == null ? BigDecimal.ZERO : BigDecimal.valueOf(produto.getPreco());
+            ItemPedido item = ItemPedido.builder()
+                    .pedido(pedido)
+                    .produto(produto)
+                    .quantidade(itemRequest.getQuantidade())
+                    .precoUnitario(precoUnitario)
+                    .subtotal(precoUnitario.multiply(BigDecimal.valueOf(itemRequest.getQuantidade())))
+                    .build();
+
+            pedido.getItens().add(item);
+            total = total.add(item.getSubtotal());
+        }
+
+        pedido.setValorTotal(total);
+        log.info("{} itens adicionados ao pedido {} - Novo total: R$ {}", itens.size(), pedidoId, total);
+
         return pedidoRepository.save(pedido);
     }
 
+    @Override
+    public Pedido confirmar(Long pedidoId) {
+        // Travado como em adicionarItens: o rollup diário recebe os itens de lotes já gravados
+        Pedido pedido = pedidoRepository.buscarParaAlterar(pedidoId)
+                .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
+
+        if (pedido.getItens() == null || pedido.getItens().isEmpty()) {
+            throw new IllegalArgumentException("Não é possível confirmar um pedido sem itens");
+        }
+
+        return mudarStatus(pedido, StatusPedido.CONFIRMADO);
+    }
+
 @Override
 @Transactional
 public Pedido atualizarStatus(Long pedidoId, StatusPedido novoStatus) {
@@ -114,12 +237,10 @@ public Pedido atualizarStatus(Long pedidoId, StatusPedido novoStatus) {
     
     log.info("Status atual do pedido {}: {}", pedidoId, pedido.getStatus());
     
-    pedido.setStatus(novoStatus);
-    
-    Pedido salvo = pedidoRepository.save(pedido);
+    Pedido atualizado = mudarStatus(pedido, novoStatus);
     log.info("Status do pedido {} atualizado com sucesso para: {}", pedidoId, novoStatus);
     
-    return salvo;
+    return atualizado;
 }
 
     // ✅ IMPLEMENTAR método calcularTotal
@@ -148,15 +269,11 @@ public Pedido atualizarStatus(Long pedidoId, StatusPedido novoStatus) {
                 .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
 
         // Verificar se pode cancelar
-        if (pedido.getStatus() == StatusPedido.ENTREGUE) {
-            throw new RuntimeException("Não é possível cancelar um pedido já entregue");
-        }
         if (pedido.getStatus() == StatusPedido.CANCELADO) {
-            throw new RuntimeException("Pedido já está cancelado");
+            throw new IllegalArgumentException("Pedido já está cancelado");
         }
 
-        pedido.setStatus(StatusPedido.CANCELADO);
-        Pedido pedidoCancelado = pedidoRepository.save(pedido);
+        Pedido pedidoCancelado = mudarStatus(pedido, StatusPedido.CANCELADO);
         log.info("Pedido cancelado - ID: {}", pedidoId);
         
         return pedidoCancelado; // ✅ RETORNAR o pedido cancelado
@@ -187,38 +304,42 @@ public Pedido atualizarStatus(Long pedidoId, StatusPedido novoStatus) {
      * Para cotações e pré-cálculos - método requerido pela atividade
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS) // sem conexão quando todos os preços estão em cache
     public BigDecimal calcularTotalPedido(List<ItemPedidoRequest> itens) {
-        log.info("Calculando total do pedido com {} itens", itens.size());
-        
         if (itens == null || itens.isEmpty()) {
             log.warn("Lista de itens vazia, retornando total zero");
             return BigDecimal.ZERO;
         }
+
+        log.info("Calculando total do pedido com {} itens", itens.size());
+
+        // Buscar preços atuais no cache (o banco só é consultado para produtos ausentes)
+        Map<Long, PrecoProduto> precos = produtoPrecoCache.buscarTodos(itens.stream()
+                .map(ItemPedidoRequest::getProdutoId)
+                .collect(Collectors.toSet()));
         
         BigDecimal total = BigDecimal.ZERO;
         
         for (ItemPedidoRequest itemRequest : itens) {
-            // Buscar produto para obter preço atual
-            Produto produto = produtoRepository.findById(itemRequest.getProdutoId()) // CORRIGIDO: itemDTO → itemRequest
-                .orElseThrow(() -> new RuntimeException("Produto não encontrado - ID: " + itemRequest.getProdutoId())); // CORRIGIDO
+            PrecoProduto produto = precos.get(itemRequest.getProdutoId());
+            if (produto == null) {
+                throw new RuntimeException("Produto não encontrado - ID: " + itemRequest.getProdutoId());
+            }
             
             // Validar disponibilidade
-            if (!produto.getAtivo()) {
-                throw new RuntimeException("Produto não está disponível - ID: " + itemRequest.getProdutoId()); // CORRIGIDO
+            if (!produto.disponivel()) {
+                throw new IllegalArgumentException("Produto não está disponível - ID: " + itemRequest.getProdutoId());
             }
             
             // Calcular subtotal do item
-                BigDecimal precoUnitario = produto.getPreco() == null
-                    ? BigDecimal.ZERO
-                    : BigDecimal.valueOf(produto.getPreco());
-            BigDecimal quantidade = BigDecimal.valueOf(itemRequest.getQuantidade()); // CORRIGIDO: itemDTO → itemRequest
+            BigDecimal precoUnitario = produto.preco();
+            BigDecimal quantidade = BigDecimal.valueOf(itemRequest.getQuantidade());
             BigDecimal subtotal = precoUnitario.multiply(quantidade);
             
             total = total.add(subtotal);
             
             log.debug("Item calculado - Produto: {}, Qtd: {}, Preço: R$ {}, Subtotal: R$ {}", 
-                    produto.getNome(), itemRequest.getQuantidade(), precoUnitario, subtotal); // CORRIGIDO: itemDTO → itemRequest
+                    produto.nome(), itemRequest.getQuantidade(), precoUnitario, subtotal);
         }
         
         log.info("Total calculado: R$ {}", total);
@@ -230,6 +351,9 @@ public Pedido atualizarStatus(Long pedidoId, StatusPedido novoStatus) {
     public void deletar(Long id) {
         Pedido pedido = pedidoRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
+        if (geraReceita(pedido.getStatus())) {
+            vendaDiariaService.estornarPedido(pedido);
+        }
         pedidoRepository.delete(pedido);
         log.info("Pedido deletado - ID: {}", id);
     }
@@ -274,4 +398,121 @@ public Pedido atualizarStatus(Long pedidoId, StatusPedido novoStatus) {
         
         return pedidoRepository.findAll();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<Pedido> listarPaginado(StatusPedido status, LocalDate dataInicio, LocalDate dataFim,
+                                                       PedidoCursor cursor, int tamanho) {
+        log.info("Listando pedidos paginados - Status: {}, Data início: {}, Data fim: {}, Tamanho: {}",
+                status, dataInicio, dataFim, tamanho);
+
+        LocalDateTime inicio = dataInicio != null ? dataInicio.atStartOfDay() : DATA_MINIMA;
+        LocalDateTime fim = dataFim != null ? dataFim.atTime(23, 59, 59) : DATA_MAXIMA;
+        LocalDateTime cursorData = cursor != null ? cursor.dataPedido() : DATA_MAXIMA;
+        Long cursorId = cursor != null ? cursor.id() : Long.MAX_VALUE;
+
+        // Busca uma linha a mais para saber se existe próxima página sem COUNT
+        PageRequest limite = PageRequest.of(0, tamanho + 1);
+        List<Pedido> pedidos = status != null
+                ? pedidoRepository.buscarPaginaKeysetPorStatus(status, inicio, fim, cursorData, cursorId, limite)
+                : pedidoRepository.buscarPaginaKeyset(inicio, fim, cursorData, cursorId, limite);
+
+        boolean temProxima = pedidos.size() > tamanho;
+        if (temProxima) {
+            pedidos = pedidos.subList(0, tamanho);
+        }
+
+        String nextCursor = null;
+        if (temProxima) {
+            Pedido ultimo = pedidos.get(pedidos.size() - 1);
+            nextCursor = new PedidoCursor(ultimo.getDataPedido(), ultimo.getId()).codificar();
+        }
+
+        return new PaginaCursorResponse<>(new ArrayList<>(pedidos), nextCursor, temProxima);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResponse> montarRespostas(List<Pedido> pedidos) {
+        if (pedidos.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<ItemPedidoResponse>> itensPorPedido = pedidoRepository
+                .buscarItensResumidos(pedidos.stream().map(Pedido::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ItemPedidoResumo::getPedidoId,
+                        Collectors.mapping(item -> new ItemPedidoResponse(item.getProdutoId(), item.getNomeProduto(),
+                                item.getQuantidade(), item.getPrecoUnitario()), Collectors.toList())));
+
+        return pedidos.stream()
+                .map(pedido -> PedidoResponse.de(pedido, itensPorPedido.getOrDefault(pedido.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Aplicar uma transição de status com um UPDATE condicional (WHERE status = lido).
+     * Se outro processo mudou o status nesse meio tempo, relê só o status e tenta de novo
+     * enquanto a transição continuar válida. O status não é gravado pelo flush da entidade.
+     */
+    private Pedido mudarStatus(Pedido pedido, StatusPedido novoStatus) {
+        StatusPedido statusAtual = pedido.getStatus();
+        for (int tentativa = 1; ; tentativa++) {
+            validarTransicao(statusAtual, novoStatus);
+            if (pedidoRepository.atualizarStatusSe(pedido.getId(), statusAtual, novoStatus) == 1) {
+                break;
+            }
+            if (tentativa == TENTATIVAS_STATUS) {
+                throw new OptimisticLockingFailureException(
+                        "Pedido " + pedido.getId() + " alterado concorrentemente; tente novamente");
+            }
+            StatusPedido lido = pedidoRepository.buscarStatus(pedido.getId())
+                    .orElseThrow(() -> new RuntimeException("Pedido não encontrado"));
+            log.info("Status do pedido {} mudou de {} para {} durante a atualização (tentativa {})",
+                    pedido.getId(), statusAtual, lido, tentativa);
+            statusAtual = lido;
+        }
+
+        pedido.setStatus(novoStatus);
+        registrarMudancaStatus(pedido, statusAtual);
+        return pedido;
+    }
+
+    private void validarTransicao(StatusPedido statusAtual, StatusPedido novoStatus) {
+        if (statusAtual == null) {
+            throw new IllegalArgumentException("Status atual inválido: " + statusAtual);
+        }
+        if (statusAtual.isFinal()) {
+            throw new IllegalArgumentException("Pedido já está em status final: " + statusAtual);
+        }
+        if (!statusAtual.podeMudarPara(novoStatus)) {
+            throw new IllegalArgumentException("De " + statusAtual + " só pode ir para " + statusAtual.getProximos()
+                    .stream().map(Enum::name).collect(Collectors.joining(" ou ")));
+        }
+    }
+
+    /**
+     * Efeitos de uma mudança de status: rollup diário e evento para os assinantes SSE
+     */
+    private void registrarMudancaStatus(Pedido pedido, StatusPedido statusAnterior) {
+        atualizarVendasDiarias(pedido, statusAnterior);
+        eventPublisher.publishEvent(PedidoStatusEvento.de(pedido, statusAnterior));
+    }
+
+    /**
+     * Registrar ou estornar o pedido no rollup diário quando ele entra ou sai
+     * de um status com receita
+     */
+    private void atualizarVendasDiarias(Pedido pedido, StatusPedido statusAnterior) {
+        boolean antes = geraReceita(statusAnterior);
+        boolean depois = geraReceita(pedido.getStatus());
+        if (!antes && depois) {
+            vendaDiariaService.registrarPedido(pedido);
+        } else if (antes && !depois) {
+            vendaDiariaService.estornarPedido(pedido);
+        }
+    }
+
+    private boolean geraReceita(StatusPedido status) {
+        return status != null && status.geraReceita();
+    }
 }
@@ -1,15 +1,27 @@
 package com.deliverutech.delivery_api.service.impl;
 
+import com.deliverutech.delivery_api.busca.ProdutoIndiceBusca;
+import com.deliverutech.delivery_api.cache.CardapioCache;
+import com.deliverutech.delivery_api.cache.ProdutoPrecoCache;
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
 import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
 import com.deliverutech.delivery_api.repository.ProdutoRepository;
 import com.deliverutech.delivery_api.service.ProdutoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j; //ADICIONAR ESTE IMPORT
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Slf4j // ADICIONAR ESTA ANOTAÇÃO
@@ -18,14 +30,38 @@ import java.util.Optional;
 @Transactional  // ADICIONADO: Para operações de escrita
 public class ProdutoServiceImpl implements ProdutoService {
 
+    private static final ListagemKeyset<Produto> LISTAGEM = new ListagemKeyset<>(Produto::getId, "nome", Map.of(
+            "nome", ListagemKeyset.Campo.texto("nome", Produto::getNome),
+            "preco", ListagemKeyset.Campo.numero("preco", Produto::getPreco)));
+
     private final ProdutoRepository produtoRepository;
+    private final ProdutoPrecoCache produtoPrecoCache;
+    private final CardapioCache cardapioCache;
+    private final ProdutoIndiceBusca produtoIndiceBusca;
 
     @Override
     public Produto cadastrar(Produto produto) {
         // MELHORADO: Validar preço antes de cadastrar
         validarPreco(produto.getPreco() == null ? null : BigDecimal.valueOf(produto.getPreco()));
         
-        return produtoRepository.save(produto);
+        Produto salvo = produtoRepository.save(produto);
+        invalidarCardapio(salvo);
+        produtoIndiceBusca.indexar(salvo);
+        return salvo;
+    }
+
+    @Override
+    public List<Produto> cadastrarLote(List<Produto> produtos) {
+        // Ids da sequência em blocos e hibernate.jdbc.batch_size: um INSERT em lote a cada 50 produtos
+        List<Produto> salvos = produtoRepository.saveAll(produtos);
+        salvos.stream()
+            .map(Produto::getRestaurante)
+            .filter(Objects::nonNull)
+            .map(Restaurante::getId)
+            .distinct()
+            .forEach(cardapioCache::invalidar);
+        salvos.forEach(produtoIndiceBusca::indexar);
+        return salvos;
     }
 
     @Override
@@ -38,6 +74,13 @@ public class ProdutoServiceImpl implements ProdutoService {
         return produtoRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<Produto> listarPaginado(String ordenacao, ListagemCursor cursor, Integer tamanho,
+                                                        boolean contarTotal) {
+        return LISTAGEM.paginar(produtoRepository, Specification.unrestricted(), ordenacao, cursor, tamanho, contarTotal);
+    }
+
     @Override
     public Produto atualizar(Long id, Produto atualizado) {
         return produtoRepository.findById(id)
@@ -58,17 +101,23 @@ public class ProdutoServiceImpl implements ProdutoService {
                     produto.setCategoria(atualizado.getCategoria());
                 }
                 
-                return produtoRepository.save(produto);
+                produtoPrecoCache.invalidar(id);
+                invalidarCardapio(produto);
+                Produto salvo = produtoRepository.save(produto);
+                produtoIndiceBusca.indexar(salvo);
+                return salvo;
             })
             .orElseThrow(() -> new RuntimeException("Produto não encontrado"));
     }
 
     @Override
     public void deletar(Long id) {
-        if (!produtoRepository.existsById(id)) {
-            throw new RuntimeException("Produto não encontrado - ID: " + id);
-        }
-        produtoRepository.deleteById(id);
+        Produto produto = produtoRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Produto não encontrado - ID: " + id));
+        produtoRepository.delete(produto);
+        produtoPrecoCache.invalidar(id);
+        invalidarCardapio(produto);
+        produtoIndiceBusca.remover(id);
         log.info("Produto deletado - ID: {}", id); //Agora funciona
     }
 
@@ -79,6 +128,8 @@ public class ProdutoServiceImpl implements ProdutoService {
                 produto -> {
                     produto.setDisponivel(false);
                     produtoRepository.save(produto);
+                    produtoPrecoCache.invalidar(id);
+                    invalidarCardapio(produto);
                     log.info("Produto inativado - ID: {}", id); // ✅ Agora funciona
                 },
                 () -> {
@@ -108,12 +159,15 @@ public class ProdutoServiceImpl implements ProdutoService {
             .ifPresentOrElse(produto -> {
                 produto.setDisponivel(disponivel);
                 produtoRepository.save(produto);
+                produtoPrecoCache.invalidar(id);
+                invalidarCardapio(produto);
             }, () -> {
                 throw new RuntimeException("Produto não encontrado");
             });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // Só regra: sem abrir transação (a importação valida em paralelo)
     public void validarPreco(BigDecimal preco) {
         // CORRIGIDO: Assinatura void conforme interface
         if (preco == null) {
@@ -132,10 +186,26 @@ public class ProdutoServiceImpl implements ProdutoService {
     }
 
     @Override
-    public List<Produto> buscarPorNome(String nome) {
-        if (nome == null || nome.trim().isEmpty()) {
-            return List.of(); // Retorna lista vazia se nome for nulo ou vazio
+    @Transactional(readOnly = true)
+    public List<Produto> buscarPorNome(String nome, int limite) {
+        // Índice em memória no lugar do LIKE '%nome%' (que varria a tabela inteira)
+        List<Long> ids = produtoIndiceBusca.buscar(nome, limite);
+        if (ids.isEmpty()) {
+            return List.of(); // Retorna lista vazia se nome for nulo, vazio ou sem resultados
+        }
+        Map<Long, Integer> posicao = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            posicao.put(ids.get(i), i);
+        }
+        // findAllById não preserva a ordem: reordenar pela relevância
+        return produtoRepository.findAllById(ids).stream()
+            .sorted(Comparator.comparing(produto -> posicao.get(produto.getId())))
+            .toList();
+    }
+
+    private void invalidarCardapio(Produto produto) {
+        if (produto.getRestaurante() != null) {
+            cardapioCache.invalidar(produto.getRestaurante().getId());
         }
-        return produtoRepository.findByNomeContainingIgnoreCase(nome.trim());
     }
 }
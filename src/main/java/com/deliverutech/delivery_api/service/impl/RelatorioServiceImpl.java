@@ -1,68 +1,133 @@
 package com.deliverutech.delivery_api.service.impl;
 
-import com.deliverutech.delivery_api.repository.PedidoRepository;
+import com.deliverutech.delivery_api.model.StatusPedido;
+import com.deliverutech.delivery_api.projection.RelatorioPedidosPeriodo;
+import com.deliverutech.delivery_api.projection.RelatorioVendas;
+import com.deliverutech.delivery_api.projection.RelatorioVendasClientes;
+import com.deliverutech.delivery_api.projection.RelatorioVendasProdutos;
+import com.deliverutech.delivery_api.projection.ResumoVendas;
+import com.deliverutech.delivery_api.repository.RelatorioRepository;
 import com.deliverutech.delivery_api.service.RelatorioService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Relatórios calculados no banco com GROUP BY.
+ * Consideram apenas pedidos com receita (StatusPedido.COM_RECEITA) dentro do período.
+ * Vendas e totais leem o rollup diário (uma linha por dia/restaurante/produto), mantido
+ * pelo VendaDiariaService; o relatório de clientes lê pedido diretamente.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RelatorioServiceImpl implements RelatorioService {
 
-    private final PedidoRepository pedidoRepository;
+    private static final int LIMITE_MAXIMO = 100;
+    private static final LocalDateTime DATA_MINIMA = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime DATA_MAXIMA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDate DIA_MINIMO = DATA_MINIMA.toLocalDate();
+    private static final LocalDate DIA_MAXIMO = DATA_MAXIMA.toLocalDate();
+
+    private final RelatorioRepository relatorioRepository;
 
     @Override
-    public List<Map<String, Object>> relatorioVendasPorRestaurante(LocalDate dataInicio, LocalDate dataFim) {
-        // Implementação simplificada - você pode usar queries nativas ou JPQL
-        return List.of(
-            Map.of("restaurante", "Restaurante A", "totalVendas", new BigDecimal("1500.00"), "quantidadePedidos", 25),
-            Map.of("restaurante", "Restaurante B", "totalVendas", new BigDecimal("1200.00"), "quantidadePedidos", 18)
-        );
+    public List<RelatorioVendas> relatorioVendasPorRestaurante(LocalDate dataInicio, LocalDate dataFim) {
+        log.info("Relatório de vendas por restaurante - Período: {} a {}", dataInicio, dataFim);
+        return relatorioRepository.vendasPorRestaurante(dia(dataInicio, DIA_MINIMO), dia(dataFim, DIA_MAXIMO));
     }
 
     @Override
-    public List<Map<String, Object>> relatorioProdutosMaisVendidos(int limite, LocalDate dataInicio, LocalDate dataFim) {
-        return List.of(
-            Map.of("produto", "Pizza Margherita", "quantidadeVendida", 50, "totalArrecadado", new BigDecimal("1000.00")),
-            Map.of("produto", "Hambúrguer", "quantidadeVendida", 35, "totalArrecadado", new BigDecimal("700.00"))
-        );
+    public List<RelatorioVendasProdutos> relatorioProdutosMaisVendidos(int limite, LocalDate dataInicio, LocalDate dataFim) {
+        log.info("Relatório de produtos mais vendidos - Limite: {}, Período: {} a {}", limite, dataInicio, dataFim);
+        return relatorioRepository.produtosMaisVendidos(
+                dia(dataInicio, DIA_MINIMO), dia(dataFim, DIA_MAXIMO), PageRequest.of(0, validarLimite(limite)));
     }
 
     @Override
-    public List<Map<String, Object>> relatorioClientesAtivos(int limite, LocalDate dataInicio, LocalDate dataFim) {
-        return List.of(
-            Map.of("cliente", "João Silva", "quantidadePedidos", 12, "totalGasto", new BigDecimal("600.00")),
-            Map.of("cliente", "Maria Santos", "quantidadePedidos", 8, "totalGasto", new BigDecimal("450.00"))
-        );
+    public List<RelatorioVendasClientes> relatorioClientesAtivos(int limite, LocalDate dataInicio, LocalDate dataFim) {
+        log.info("Relatório de clientes mais ativos - Limite: {}, Período: {} a {}", limite, dataInicio, dataFim);
+        return relatorioRepository.clientesMaisAtivos(
+                StatusPedido.COM_RECEITA, inicio(dataInicio), fim(dataFim), PageRequest.of(0, validarLimite(limite)));
     }
 
     @Override
     public Map<String, Object> relatorioPedidosPorPeriodo(LocalDate dataInicio, LocalDate dataFim, String agrupamento) {
-        return Map.of(
-            "periodo", dataInicio + " até " + dataFim,
-            "totalPedidos", 150,
-            "valorTotal", new BigDecimal("7500.00"),
-            "agrupamento", agrupamento != null ? agrupamento : "total"
-        );
+        log.info("Relatório de pedidos por período - {} a {}, Agrupamento: {}", dataInicio, dataFim, agrupamento);
+
+        ResumoVendas resumo = relatorioRepository.resumoVendas(dia(dataInicio, DIA_MINIMO), dia(dataFim, DIA_MAXIMO));
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("periodo", dataInicio + " até " + dataFim);
+        relatorio.put("totalPedidos", resumo.getTotalPedidos());
+        relatorio.put("valorTotal", resumo.getValorTotalVendas());
+        relatorio.put("agrupamento", agrupamento != null ? agrupamento : "total");
+
+        if (agrupamento != null) {
+            relatorio.put("detalhes", agruparPedidos(dataInicio, dataFim, agrupamento));
+        }
+
+        return relatorio;
     }
 
     @Override
     public Map<String, Object> resumoVendas(LocalDate dataInicio, LocalDate dataFim) {
-        return Map.of(
-            "totalPedidos", 150,
-            "valorTotalVendas", new BigDecimal("7500.00"),
-            "ticketMedio", new BigDecimal("50.00"),
-            "restaurantesAtivos", 5,
-            "clientesAtivos", 45
-        );
+        log.info("Resumo de vendas - Período: {} a {}", dataInicio, dataFim);
+
+        ResumoVendas resumo = relatorioRepository.resumoVendas(dia(dataInicio, DIA_MINIMO), dia(dataFim, DIA_MAXIMO));
+
+        BigDecimal ticketMedio = resumo.getTotalPedidos() == 0
+                ? BigDecimal.ZERO
+                : resumo.getValorTotalVendas().divide(BigDecimal.valueOf(resumo.getTotalPedidos()), 2, RoundingMode.HALF_UP);
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("totalPedidos", resumo.getTotalPedidos());
+        relatorio.put("valorTotalVendas", resumo.getValorTotalVendas());
+        relatorio.put("ticketMedio", ticketMedio);
+        relatorio.put("restaurantesAtivos", resumo.getRestaurantesAtivos());
+        relatorio.put("clientesAtivos", relatorioRepository.contarClientesAtivos(
+                StatusPedido.COM_RECEITA, inicio(dataInicio), fim(dataFim)));
+        return relatorio;
+    }
+
+    private List<RelatorioPedidosPeriodo> agruparPedidos(LocalDate dataInicio, LocalDate dataFim, String agrupamento) {
+        LocalDate inicio = dia(dataInicio, DIA_MINIMO);
+        LocalDate fim = dia(dataFim, DIA_MAXIMO);
+        return switch (agrupamento.toLowerCase()) {
+            case "dia" -> relatorioRepository.pedidosPorDia(inicio, fim);
+            case "mes" -> relatorioRepository.pedidosPorMes(inicio, fim);
+            case "ano" -> relatorioRepository.pedidosPorAno(inicio, fim);
+            default -> throw new IllegalArgumentException("Agrupamento inválido: " + agrupamento + " (use dia, mes ou ano)");
+        };
+    }
+
+    private int validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+        return limite;
+    }
+
+    private LocalDate dia(LocalDate data, LocalDate padrao) {
+        return data != null ? data : padrao;
+    }
+
+    private LocalDateTime inicio(LocalDate dataInicio) {
+        return dataInicio != null ? dataInicio.atStartOfDay() : DATA_MINIMA;
+    }
+
+    private LocalDateTime fim(LocalDate dataFim) {
+        return dataFim != null ? dataFim.atTime(23, 59, 59) : DATA_MAXIMA;
     }
 }
@@ -1,15 +1,25 @@
 package com.deliverutech.delivery_api.service.impl;
 
 import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.dto.request.ListagemCursor;
 import com.deliverutech.delivery_api.dto.request.RestauranteRequest;
+import com.deliverutech.delivery_api.dto.response.PaginaCursorResponse;
+import com.deliverutech.delivery_api.geo.CepCoordenadas;
+import com.deliverutech.delivery_api.geo.Coordenada;
+import com.deliverutech.delivery_api.geo.RestauranteIndiceEspacial;
 import com.deliverutech.delivery_api.repository.RestauranteRepository;
 import com.deliverutech.delivery_api.service.RestauranteService;
+import com.deliverutech.delivery_api.taxa.TaxaEntregaMotor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 @Slf4j 
 @Service
@@ -17,7 +27,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class RestauranteServiceImpl implements RestauranteService {
 
+    private static final ListagemKeyset<Restaurante> LISTAGEM = new ListagemKeyset<>(Restaurante::getId, "nome", Map.of(
+            "nome", ListagemKeyset.Campo.texto("nome", Restaurante::getNome),
+            "taxaEntrega", ListagemKeyset.Campo.decimal("taxaEntrega", Restaurante::getTaxaEntrega)));
+
     private final RestauranteRepository restauranteRepository;
+    private final CepCoordenadas cepCoordenadas;
+    private final RestauranteIndiceEspacial restauranteIndiceEspacial;
+    private final TaxaEntregaMotor taxaEntregaMotor;
 
     @Override
     public Restaurante cadastrar(RestauranteRequest restauranteRequest) {
@@ -32,8 +49,11 @@ public class RestauranteServiceImpl implements RestauranteService {
 /*         restaurante.setEmail(restauranteRequest.getEmail()); */
         restaurante.setTempoEntregaMinutos(restauranteRequest.getTempoEntregaMinutos()); 
         restaurante.setAtivo(true);
+        localizar(restaurante, restauranteRequest.getCep());
         
         Restaurante salvo = restauranteRepository.save(restaurante);
+        restauranteIndiceEspacial.atualizar(salvo);
+        taxaEntregaMotor.atualizar(salvo);
         log.info("Restaurante cadastrado com sucesso - ID: {}", salvo.getId());
         
         return salvo;
@@ -87,7 +107,13 @@ public class RestauranteServiceImpl implements RestauranteService {
                 r.setCategoria(atualizado.getCategoria());
                 r.setTaxaEntrega(atualizado.getTaxaEntrega());
                 r.setTempoEntregaMinutos(atualizado.getTempoEntregaMinutos());
-                return restauranteRepository.save(r);
+                if (atualizado.getCep() != null) {
+                    localizar(r, atualizado.getCep());
+                }
+                Restaurante salvo = restauranteRepository.save(r);
+                restauranteIndiceEspacial.atualizar(salvo);
+                taxaEntregaMotor.atualizar(salvo);
+                return salvo;
             }).orElseThrow(() -> new RuntimeException("Restaurante não encontrado"));
     }
 
@@ -99,6 +125,8 @@ public class RestauranteServiceImpl implements RestauranteService {
                 restaurante -> {
                     restaurante.setAtivo(false);
                     restauranteRepository.save(restaurante);
+                    restauranteIndiceEspacial.atualizar(restaurante);
+                    taxaEntregaMotor.atualizar(restaurante);
                     log.info("Restaurante inativado - ID: {}", id);
                 },
                 () -> {
@@ -109,59 +137,18 @@ public class RestauranteServiceImpl implements RestauranteService {
 
     /**
      * Calcular taxa de entrega baseada no restaurante e CEP
-     * Lógica simplificada para demonstração
+     * Consulta a tabela pré-calculada do restaurante (região do CEP + faixa de distância)
      */
     @Override
     @Transactional(readOnly = true)
     public BigDecimal calcularTaxaEntrega(Long restauranteId, String cep) {
-        log.info("Calculando taxa de entrega - Restaurante ID: {}, CEP: {}", restauranteId, cep);
-        
-        // Buscar restaurante
-        Restaurante restaurante = restauranteRepository.findById(restauranteId)
-            .orElseThrow(() -> new RuntimeException("Restaurante não encontrado - ID: " + restauranteId));
-        
-        // Verificar se restaurante está ativo
-        if (!restaurante.isAtivo()) {
-            throw new RuntimeException("Restaurante não está disponível para entrega");
-        }
-        
-        // Lógica simplificada de cálculo baseada no CEP
-        BigDecimal taxaBase = restaurante.getTaxaEntrega();
-        
-        // Simular cálculo por região do CEP
-        String primeirosDigitos = cep.substring(0, Math.min(2, cep.length()));
-        
-        try {
-            int codigoRegiao = Integer.parseInt(primeirosDigitos);
-            
-            // Lógica de exemplo:
-            // CEP 01xxx-xxx (centro) = taxa normal
-            // CEP 02xxx-xxx a 05xxx-xxx = taxa + 20%
-            // CEP 06xxx-xxx a 09xxx-xxx = taxa + 50%
-            // Outros = taxa + 100%
-            
-            BigDecimal multiplicador;
-            if (codigoRegiao == 1) {
-                multiplicador = BigDecimal.ONE; // Taxa normal
-            } else if (codigoRegiao >= 2 && codigoRegiao <= 5) {
-                multiplicador = new BigDecimal("1.20"); // +20%
-            } else if (codigoRegiao >= 6 && codigoRegiao <= 9) {
-                multiplicador = new BigDecimal("1.50"); // +50%
-            } else {
-                multiplicador = new BigDecimal("2.00"); // +100%
-            }
-            
-            BigDecimal taxaFinal = taxaBase.multiply(multiplicador).setScale(2, BigDecimal.ROUND_HALF_UP);
-            
-            log.info("Taxa calculada: R$ {} (base: R$ {}, multiplicador: {})", 
-                    taxaFinal, taxaBase, multiplicador);
-            
-            return taxaFinal;
-            
-        } catch (NumberFormatException e) {
-            log.warn("CEP inválido: {}, usando taxa base", cep);
-            return taxaBase;
-        }
+        return taxaEntregaMotor.calcular(restauranteId, cep);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> cotarTaxasEntrega(List<Long> restauranteIds, String cep) {
+        return taxaEntregaMotor.cotar(restauranteIds, cep);
     }
 
     /**
@@ -176,6 +163,8 @@ public class RestauranteServiceImpl implements RestauranteService {
         
         restaurante.setAtivo(ativo);
         Restaurante salvo = restauranteRepository.save(restaurante);
+        restauranteIndiceEspacial.atualizar(salvo);
+        taxaEntregaMotor.atualizar(salvo);
         
         log.info("Status do restaurante {} alterado para: {}", id, ativo);
         return salvo;
@@ -183,43 +172,31 @@ public class RestauranteServiceImpl implements RestauranteService {
 
     /**
      * Buscar restaurantes próximos por CEP
-     * Lógica simplificada baseada nos primeiros dígitos do CEP
+     * O CEP vira coordenada pela tabela local de prefixos; os vizinhos saem do índice espacial
      */
     @Override
     @Transactional(readOnly = true)
-    public List<Restaurante> buscarProximos(String cep) {
+    public List<Restaurante> buscarProximos(String cep, Double raioKm, int limite) {
         log.info("Buscando restaurantes próximos ao CEP: {}", cep);
-        
-        // Lógica simplificada: considera próximos os restaurantes ativos
-        // Em um cenário real, seria feita integração com API de mapas
-        List<Restaurante> restaurantesAtivos = restauranteRepository.findByAtivoTrue();
-        
-        // Simular proximidade baseada no CEP
-        String primeirosDigitos = cep.substring(0, Math.min(2, cep.length()));
-        
-        try {
-            int codigoRegiao = Integer.parseInt(primeirosDigitos);
-            
-            // Filtrar restaurantes "próximos" baseado na região do CEP
-            // Para demonstração, considera próximo se código da região for <= 5
-            if (codigoRegiao <= 5) {
-                log.info("Encontrados {} restaurantes próximos ao CEP {}", restaurantesAtivos.size(), cep);
-                return restaurantesAtivos;
-            } else {
-                // Para regiões mais distantes, retorna apenas restaurantes com taxa <= 10.00
-                List<Restaurante> restaurantesProximos = restaurantesAtivos.stream()
-                    .filter(r -> r.getTaxaEntrega().compareTo(new BigDecimal("10.00")) <= 0)
-                    .toList();
-                
-                log.info("Encontrados {} restaurantes próximos ao CEP {} (região distante)", 
-                        restaurantesProximos.size(), cep);
-                return restaurantesProximos;
-            }
-            
-        } catch (NumberFormatException e) {
-            log.warn("CEP inválido: {}, retornando todos os restaurantes ativos", cep);
-            return restaurantesAtivos;
+
+        Coordenada origem = cepCoordenadas.localizar(cep)
+            .orElseThrow(() -> new RuntimeException("Prefixo do CEP não encontrado: " + cep));
+        List<RestauranteIndiceEspacial.Vizinho> vizinhos = restauranteIndiceEspacial.proximos(origem, limite, raioKm);
+        if (vizinhos.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> posicao = new HashMap<>();
+        for (int i = 0; i < vizinhos.size(); i++) {
+            posicao.put(vizinhos.get(i).restauranteId(), i);
         }
+        // findAllById não preserva a ordem: reordenar pela distância
+        List<Restaurante> restaurantesProximos = restauranteRepository.findAllById(posicao.keySet()).stream()
+            .sorted(Comparator.comparing(restaurante -> posicao.get(restaurante.getId())))
+            .toList();
+
+        log.info("Encontrados {} restaurantes próximos ao CEP {}", restaurantesProximos.size(), cep);
+        return restaurantesProximos;
     }
 
     /**
@@ -249,4 +226,29 @@ public class RestauranteServiceImpl implements RestauranteService {
         // Se ambos os filtros foram fornecidos
         return restauranteRepository.findByCategoriaAndAtivo(categoria, ativo);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorResponse<Restaurante> listarPaginado(String categoria, Boolean ativo, String ordenacao,
+                                                            ListagemCursor cursor, Integer tamanho, boolean contarTotal) {
+        log.info("Listando restaurantes paginados - Categoria: {}, Ativo: {}, Ordenação: {}, Tamanho: {}",
+                categoria, ativo, ordenacao, tamanho);
+
+        Specification<Restaurante> filtro = Specification.unrestricted();
+        if (categoria != null) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(root.get("categoria"), categoria));
+        }
+        if (ativo != null) {
+            filtro = filtro.and((root, query, cb) -> cb.equal(root.get("ativo"), ativo));
+        }
+        return LISTAGEM.paginar(restauranteRepository, filtro, ordenacao, cursor, tamanho, contarTotal);
+    }
+
+    // Coordenada aproximada pelo prefixo do CEP (fica sem coordenada se a região não estiver na tabela)
+    private void localizar(Restaurante restaurante, String cep) {
+        restaurante.setCep(cep);
+        Coordenada coordenada = cep == null ? null : cepCoordenadas.localizar(cep).orElse(null);
+        restaurante.setLatitude(coordenada == null ? null : coordenada.latitude());
+        restaurante.setLongitude(coordenada == null ? null : coordenada.longitude());
+    }
 }
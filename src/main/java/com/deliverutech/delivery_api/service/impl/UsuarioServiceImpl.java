@@ -18,6 +18,7 @@ import com.deliverutech.delivery_api.model.Role;
 import com.deliverutech.delivery_api.model.Usuario;
 import com.deliverutech.delivery_api.repository.UsuarioRepository;
 import com.deliverutech.delivery_api.security.JwtUtil;
+import com.deliverutech.delivery_api.security.UsuarioAutenticadoCache;
 import com.deliverutech.delivery_api.service.UsuarioService;
 
 @Service
@@ -35,6 +36,9 @@ public class UsuarioServiceImpl implements UsuarioService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UsuarioAutenticadoCache usuarioAutenticadoCache;
+
     @Override
     public LoginResponse login(LoginRequest loginRequest) {
         try {
@@ -79,6 +83,8 @@ public class UsuarioServiceImpl implements UsuarioService {
             Usuario usuario = usuarioOpt.get();
             usuario.setAtivo(false);
             usuarioRepository.save(usuario);
+            // Tokens já emitidos deixam de autenticar na próxima requisição
+            usuarioAutenticadoCache.invalidar(usuario.getEmail());
         } else {
             throw new RuntimeException("Usuário não encontrado com id: " + id);
         }
@@ -0,0 +1,193 @@
+package com.deliverutech.delivery_api.service.impl;
+
+import com.deliverutech.delivery_api.model.ItemPedido;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.StatusPedido;
+import com.deliverutech.delivery_api.model.VendaDiaria;
+import com.deliverutech.delivery_api.model.VendaDiariaRestaurante;
+import com.deliverutech.delivery_api.repository.VendaDiariaRepository;
+import com.deliverutech.delivery_api.repository.VendaDiariaRestauranteRepository;
+import com.deliverutech.delivery_api.service.VendaDiariaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Atualiza o rollup diário com deltas (UPDATE ... SET x = x + :delta), inserindo a linha
+ * apenas quando ela ainda não existe. Roda na transação de quem altera o pedido.
+ * Dois pedidos podem criar a mesma linha ao mesmo tempo: o INSERT roda sob um savepoint e,
+ * se a chave primária o rejeitar, só ele é desfeito e o delta vai para a linha do outro.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class VendaDiariaServiceImpl implements VendaDiariaService {
+
+    private static final LocalDate DATA_MINIMA = LocalDate.of(1970, 1, 1);
+    private static final LocalDate DATA_MAXIMA = LocalDate.of(9999, 12, 31);
+    private static final List<String> STATUS_COM_RECEITA = StatusPedido.COM_RECEITA.stream()
+            .map(Enum::name)
+            .toList();
+
+    private final VendaDiariaRepository vendaDiariaRepository;
+    private final VendaDiariaRestauranteRepository vendaDiariaRestauranteRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERIR_RESTAURANTE =
+            "INSERT INTO vendas_diarias_restaurante (data_venda, restaurante_id, quantidade_pedidos, valor_total) " +
+            "VALUES (?, ?, ?, ?)";
+    private static final String INSERIR_PRODUTO =
+            "INSERT INTO vendas_diarias (data_venda, restaurante_id, produto_id, quantidade_itens, valor_total) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    // SQLSTATE padrão de violação de unicidade (H2, PostgreSQL)
+    private static final String VIOLACAO_UNICIDADE = "23505";
+
+    @Override
+    public void registrarPedido(Pedido pedido) {
+        aplicar(pedido, pedido.getItens(), 1, 1);
+    }
+
+    @Override
+    public void estornarPedido(Pedido pedido) {
+        aplicar(pedido, pedido.getItens(), -1, -1);
+    }
+
+    @Override
+    public void registrarItens(Pedido pedido, Collection<ItemPedido> itens) {
+        aplicar(pedido, itens, 0, 1);
+    }
+
+    @Override
+    public Map<String, Object> reconstruir(LocalDate dataInicio, LocalDate dataFim) {
+        LocalDate inicio = dataInicio != null ? dataInicio : DATA_MINIMA;
+        LocalDate fim = dataFim != null ? dataFim : DATA_MAXIMA;
+        if (inicio.isAfter(fim)) {
+            throw new IllegalArgumentException("Data início deve ser anterior ou igual à data fim");
+        }
+        log.info("Reconstruindo rollup de vendas diárias - Período: {} a {}", inicio, fim);
+
+        LocalDateTime inicioPedido = inicio.atStartOfDay();
+        LocalDateTime fimPedido = fim.plusDays(1).atStartOfDay();
+
+        int removidasProduto = vendaDiariaRepository.excluirPeriodo(inicio, fim);
+        int removidasRestaurante = vendaDiariaRestauranteRepository.excluirPeriodo(inicio, fim);
+        int linhasProduto = vendaDiariaRepository.reconstruirPeriodo(STATUS_COM_RECEITA, inicioPedido, fimPedido);
+        int linhasRestaurante = vendaDiariaRestauranteRepository.reconstruirPeriodo(STATUS_COM_RECEITA, inicioPedido, fimPedido);
+
+        log.info("Rollup reconstruído - Produto: {} removidas / {} inseridas, Restaurante: {} removidas / {} inseridas",
+                removidasProduto, linhasProduto, removidasRestaurante, linhasRestaurante);
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("dataInicio", inicio);
+        resultado.put("dataFim", fim);
+        resultado.put("linhasProduto", linhasProduto);
+        resultado.put("linhasRestaurante", linhasRestaurante);
+        return resultado;
+    }
+
+    /**
+     * Aplicar os deltas do pedido (sinalPedido: +1/-1/0 na contagem; sinalValor: +1/-1 nos valores)
+     */
+    private void aplicar(Pedido pedido, Collection<ItemPedido> itens, int sinalPedido, int sinalValor) {
+        if (pedido.getDataPedido() == null || pedido.getRestaurante() == null) {
+            return;
+        }
+        LocalDate data = pedido.getDataPedido().toLocalDate();
+        Long restauranteId = pedido.getRestaurante().getId();
+
+        // Agrupar por produto: o mesmo produto pode aparecer em mais de um item.
+        // Em ordem de id, para que pedidos concorrentes travem as linhas na mesma ordem
+        Map<Long, long[]> quantidades = new TreeMap<>();
+        Map<Long, BigDecimal> valores = new LinkedHashMap<>();
+        BigDecimal valorItens = BigDecimal.ZERO;
+        if (itens != null) {
+            for (ItemPedido item : itens) {
+                BigDecimal subtotal = subtotal(item);
+                Long produtoId = item.getProduto().getId();
+                quantidades.computeIfAbsent(produtoId, id -> new long[1])[0] += item.getQuantidade();
+                valores.merge(produtoId, subtotal, BigDecimal::add);
+                valorItens = valorItens.add(subtotal);
+            }
+        }
+
+        // Sem itens (ex.: pedido confirmado vazio) ainda conta o pedido e o valorTotal gravado
+        BigDecimal valorPedido = sinalPedido == 0 ? valorItens
+                : (pedido.getValorTotal() != null ? pedido.getValorTotal() : valorItens);
+        somarRestaurante(new VendaDiariaRestaurante.Chave(data, restauranteId),
+                sinalPedido, sinal(valorPedido, sinalValor));
+
+        for (Map.Entry<Long, long[]> entrada : quantidades.entrySet()) {
+            Long produtoId = entrada.getKey();
+            somarProduto(new VendaDiaria.Chave(data, restauranteId, produtoId),
+                    sinalValor * entrada.getValue()[0], sinal(valores.get(produtoId), sinalValor));
+        }
+    }
+
+    private void somarRestaurante(VendaDiariaRestaurante.Chave chave, long pedidos, BigDecimal valor) {
+        if (vendaDiariaRestauranteRepository.somar(chave, pedidos, valor) == 0
+                && !inserir(INSERIR_RESTAURANTE, chave.getData(), chave.getRestauranteId(), pedidos, valor)) {
+            vendaDiariaRestauranteRepository.somar(chave, pedidos, valor);
+        }
+    }
+
+    private void somarProduto(VendaDiaria.Chave chave, long quantidade, BigDecimal valor) {
+        if (vendaDiariaRepository.somar(chave, quantidade, valor) == 0
+                && !inserir(INSERIR_PRODUTO, chave.getData(), chave.getRestauranteId(), chave.getProdutoId(),
+                        quantidade, valor)) {
+            vendaDiariaRepository.somar(chave, quantidade, valor);
+        }
+    }
+
+    /**
+     * INSERT da linha nova na conexão da transação corrente, sob um savepoint
+     * (JDBC direto: uma exceção do Hibernate marcaria a transação inteira para rollback)
+     * @return false se outra transação já criou a linha (chave primária)
+     */
+    private boolean inserir(String sql, Object... valores) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (PreparedStatement statement = conexao.prepareStatement(sql)) {
+                for (int i = 0; i < valores.length; i++) {
+                    statement.setObject(i + 1, valores[i]);
+                }
+                statement.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                if (!VIOLACAO_UNICIDADE.equals(e.getSQLState())) {
+                    throw e;
+                }
+                conexao.rollback(savepoint);
+                return false;
+            }
+        });
+    }
+
+    private BigDecimal subtotal(ItemPedido item) {
+        // Itens recém-criados só têm subtotal após o @PrePersist
+        if (item.getSubtotal() != null) {
+            return item.getSubtotal();
+        }
+        return item.getPrecoUnitario().multiply(BigDecimal.valueOf(item.getQuantidade()));
+    }
+
+    private BigDecimal sinal(BigDecimal valor, int sinal) {
+        return sinal < 0 ? valor.negate() : valor;
+    }
+}
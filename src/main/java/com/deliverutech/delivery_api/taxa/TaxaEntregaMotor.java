@@ -0,0 +1,225 @@
+package com.deliverutech.delivery_api.taxa;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.deliverutech.delivery_api.geo.CepCoordenadas;
+import com.deliverutech.delivery_api.geo.Coordenada;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Taxa de entrega por restaurante e CEP, a partir de tabelas pré-calculadas.
+ * As regras (multiplicador por região do CEP e acréscimo por faixa de distância) são compiladas,
+ * por restaurante, numa tabela de faixas de prefixo de CEP (3 dígitos) com a taxa em centavos:
+ * o cálculo vira uma busca binária, sem ir ao banco nem criar BigDecimal intermediário.
+ * A tabela do restaurante é montada no primeiro uso e refeita a cada escrita no restaurante.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaxaEntregaMotor {
+
+    // A tabela de coordenadas de CEP usa prefixos de até 3 dígitos
+    static final int DIGITOS_PREFIXO = 3;
+    private static final int PREFIXOS = 1_000;
+
+    /**
+     * Multiplicador da taxa base pela região (dois primeiros dígitos do CEP)
+     */
+    record RegraRegiao(int regiaoInicial, int regiaoFinal, BigDecimal multiplicador) {
+    }
+
+    /**
+     * Acréscimo fixo para entregas até a distância da faixa (em linha reta)
+     */
+    record FaixaDistancia(double ateKm, BigDecimal acrescimo) {
+    }
+
+    // CEP 01 (centro) = taxa normal; 02 a 05 = +20%; 06 a 09 = +50%; outras regiões = +100%
+    static final List<RegraRegiao> REGIOES = List.of(
+            new RegraRegiao(1, 1, BigDecimal.ONE),
+            new RegraRegiao(2, 5, new BigDecimal("1.20")),
+            new RegraRegiao(6, 9, new BigDecimal("1.50")));
+    static final BigDecimal MULTIPLICADOR_OUTRAS_REGIOES = new BigDecimal("2.00");
+
+    static final List<FaixaDistancia> FAIXAS = List.of(
+            new FaixaDistancia(3, BigDecimal.ZERO),
+            new FaixaDistancia(6, new BigDecimal("1.50")),
+            new FaixaDistancia(10, new BigDecimal("3.00")),
+            new FaixaDistancia(20, new BigDecimal("6.00")),
+            new FaixaDistancia(Double.POSITIVE_INFINITY, new BigDecimal("10.00")));
+
+    private final RestauranteRepository restauranteRepository;
+    private final CepCoordenadas cepCoordenadas;
+
+    private final Map<Long, Tabela> tabelas = new ConcurrentHashMap<>();
+    // Coordenada de cada prefixo de 3 dígitos (null quando a tabela de CEP não cobre)
+    private volatile Coordenada[] coordenadasPrefixo;
+
+    /**
+     * Taxa de entrega do restaurante para o CEP
+     * @throws RuntimeException se o restaurante não existir ou estiver inativo
+     */
+    public BigDecimal calcular(Long restauranteId, String cep) {
+        Tabela tabela = tabelas.get(restauranteId);
+        if (tabela == null) {
+            // Consulta fora do mapa, como em cotar: computeIfAbsent seguraria a trava do bin durante o SELECT
+            Restaurante restaurante = restauranteRepository.findById(restauranteId)
+                    .orElseThrow(() -> new RuntimeException("Restaurante não encontrado - ID: " + restauranteId));
+            Tabela compilada = compilar(restaurante);
+            Tabela anterior = tabelas.putIfAbsent(restauranteId, compilada);
+            tabela = anterior != null ? anterior : compilada;
+        }
+        if (!tabela.ativo()) {
+            throw new RuntimeException("Restaurante não está disponível para entrega");
+        }
+        return BigDecimal.valueOf(tabela.centavos(cep), 2);
+    }
+
+    /**
+     * Taxas de vários restaurantes para o mesmo CEP, na ordem pedida
+     * @return taxa por restaurante; null para restaurante inexistente ou inativo
+     */
+    public Map<Long, BigDecimal> cotar(List<Long> restauranteIds, String cep) {
+        List<Long> faltando = restauranteIds.stream()
+                .filter(id -> !tabelas.containsKey(id))
+                .distinct()
+                .toList();
+        if (!faltando.isEmpty()) {
+            // Uma consulta só para todos os restaurantes ainda sem tabela
+            restauranteRepository.findAllById(faltando)
+                    .forEach(restaurante -> tabelas.putIfAbsent(restaurante.getId(), compilar(restaurante)));
+        }
+
+        Map<Long, BigDecimal> taxas = new LinkedHashMap<>();
+        for (Long id : restauranteIds) {
+            Tabela tabela = tabelas.get(id);
+            taxas.put(id, tabela == null || !tabela.ativo() ? null : BigDecimal.valueOf(tabela.centavos(cep), 2));
+        }
+        return taxas;
+    }
+
+    /**
+     * Refazer a tabela do restaurante. Dentro de uma transação, só vale após o commit.
+     */
+    public void atualizar(Restaurante restaurante) {
+        Long id = restaurante.getId();
+        Tabela tabela = compilar(restaurante);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tabelas.put(id, tabela);
+                }
+            });
+        } else {
+            tabelas.put(id, tabela);
+        }
+    }
+
+    Tabela compilar(Restaurante restaurante) {
+        BigDecimal taxaBase = restaurante.getTaxaEntrega() == null ? BigDecimal.ZERO : restaurante.getTaxaEntrega();
+        Coordenada origem = restaurante.getLatitude() == null || restaurante.getLongitude() == null
+                ? null
+                : new Coordenada(restaurante.getLatitude(), restaurante.getLongitude());
+        Coordenada[] destinos = coordenadasPrefixo();
+
+        // Prefixos vizinhos com a mesma taxa viram uma faixa só
+        List<int[]> faixas = new ArrayList<>();
+        for (int prefixo = 0; prefixo < PREFIXOS; prefixo++) {
+            int centavos = centavos(taxaBase, prefixo, origem, destinos[prefixo]);
+            if (faixas.isEmpty() || faixas.get(faixas.size() - 1)[1] != centavos) {
+                faixas.add(new int[] {prefixo, centavos});
+            }
+        }
+        int[] inicios = new int[faixas.size()];
+        int[] centavos = new int[faixas.size()];
+        for (int i = 0; i < faixas.size(); i++) {
+            inicios[i] = faixas.get(i)[0];
+            centavos[i] = faixas.get(i)[1];
+        }
+        log.debug("Tabela de taxas do restaurante {} compilada em {} faixas", restaurante.getId(), inicios.length);
+        return new Tabela(restaurante.isAtivo(), taxaBase.movePointRight(2).intValue(), inicios, centavos);
+    }
+
+    private static int centavos(BigDecimal taxaBase, int prefixo, Coordenada origem, Coordenada destino) {
+        int regiao = prefixo / 10;
+        BigDecimal multiplicador = REGIOES.stream()
+                .filter(regra -> regiao >= regra.regiaoInicial() && regiao <= regra.regiaoFinal())
+                .map(RegraRegiao::multiplicador)
+                .findFirst()
+                .orElse(MULTIPLICADOR_OUTRAS_REGIOES);
+        BigDecimal taxa = taxaBase.multiply(multiplicador).setScale(2, RoundingMode.HALF_UP);
+
+        if (origem != null && destino != null) {
+            double distancia = origem.distanciaKm(destino);
+            for (FaixaDistancia faixa : FAIXAS) {
+                if (distancia <= faixa.ateKm()) {
+                    taxa = taxa.add(faixa.acrescimo());
+                    break;
+                }
+            }
+        }
+        return taxa.movePointRight(2).intValueExact();
+    }
+
+    private Coordenada[] coordenadasPrefixo() {
+        Coordenada[] coordenadas = coordenadasPrefixo;
+        if (coordenadas == null) {
+            coordenadas = new Coordenada[PREFIXOS];
+            for (int prefixo = 0; prefixo < PREFIXOS; prefixo++) {
+                String cep = String.format("%03d00000", prefixo);
+                coordenadas[prefixo] = cepCoordenadas.localizar(cep).orElse(null);
+            }
+            coordenadasPrefixo = coordenadas;
+        }
+        return coordenadas;
+    }
+
+    /**
+     * Taxas compiladas de um restaurante: inicios[i] é o primeiro prefixo da faixa i,
+     * que vale centavos[i] até o início da faixa seguinte
+     * @param centavosBase taxa sem regras, usada quando o CEP não é numérico
+     */
+    record Tabela(boolean ativo, int centavosBase, int[] inicios, int[] centavos) {
+
+        int centavos(String cep) {
+            int prefixo = prefixo(cep);
+            if (prefixo < 0) {
+                return centavosBase;
+            }
+            int posicao = Arrays.binarySearch(inicios, prefixo);
+            return centavos[posicao >= 0 ? posicao : -posicao - 2];
+        }
+
+        // Três primeiros dígitos do CEP, ou -1 se não forem dígitos
+        private static int prefixo(String cep) {
+            if (cep == null || cep.length() < DIGITOS_PREFIXO) {
+                return -1;
+            }
+            int prefixo = 0;
+            for (int i = 0; i < DIGITOS_PREFIXO; i++) {
+                char c = cep.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                prefixo = prefixo * 10 + (c - '0');
+            }
+            return prefixo;
+        }
+    }
+}
@@ -19,8 +19,12 @@ public class CEPValidator implements ConstraintValidator<ValidCEP, String> {
         }
 
         // Valida se o CEP tem o formato "00000-000" ou "00000000"
-        // Usando regex para corresponder a cinco dígitos, hífen, três dígitos 
-        // ou oito dígitos seguidos sem hífen
-        return value.matches("\\d{5}-\\d{3}") || value.matches("\\d{8}");
+        // Percorre os caracteres em vez de usar regex: String.matches compila um Pattern
+        // a cada chamada, e este validador roda em todo corpo de requisição com CEP
+        return switch (value.length()) {
+            case 9 -> Caracteres.digitos(value, 0, 5) && value.charAt(5) == '-' && Caracteres.digitos(value, 6, 9);
+            case 8 -> Caracteres.digitos(value, 0, 8);
+            default -> false;
+        };
     }
 }
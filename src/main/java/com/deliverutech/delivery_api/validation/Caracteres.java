@@ -0,0 +1,24 @@
+package com.deliverutech.delivery_api.validation;
+
+// Apoio aos validadores: as classes de caractere de regex usadas antes, sem compilar Pattern
+final class Caracteres {
+
+    private Caracteres() {
+    }
+
+    // \d{n}: true se todos os caracteres de [inicio, fim) forem dígitos de 0 a 9
+    static boolean digitos(String valor, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            char c = valor.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // \s: espaço, tabulação, quebras de linha, tabulação vertical ou form feed
+    static boolean espaco(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
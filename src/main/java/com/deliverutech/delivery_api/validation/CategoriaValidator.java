@@ -1,6 +1,7 @@
 package com.deliverutech.delivery_api.validation;
 
 import java.util.Arrays;
+import java.util.Locale;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -28,6 +29,32 @@ public class CategoriaValidator implements ConstraintValidator<ValidCategoria, S
             return true;
         }
 
-        return Arrays.asList(CATEGORIAS_PERMITIDAS).contains(value.toUpperCase());
+        // Mesmo resultado de value.toUpperCase() contra a lista, sem criar a cópia em maiúsculas:
+        // até U+00FF cada caractere tem maiúscula de um caractere só, exceto ß ("SS").
+        // Fora disso (ß, ligaturas como U+FB06 "st", İ...) a conversão completa decide.
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > '\u00FF' || c == '\u00DF') {
+                return Arrays.asList(CATEGORIAS_PERMITIDAS).contains(value.toUpperCase(Locale.ROOT));
+            }
+        }
+        for (String categoria : CATEGORIAS_PERMITIDAS) {
+            if (igualEmMaiusculas(value, categoria)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean igualEmMaiusculas(String valor, String categoria) {
+        if (valor.length() != categoria.length()) {
+            return false;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            if (Character.toUpperCase(valor.charAt(i)) != categoria.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
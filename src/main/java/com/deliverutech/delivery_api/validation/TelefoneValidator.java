@@ -14,6 +14,17 @@ public class TelefoneValidator implements ConstraintValidator<ValidTelefone, Str
 
         // Aceita os formatos:
         // (99) 99999-9999 ou 1199999999
-        return value.matches("\\(\\d{2}\\)\\s\\d{5}-\\d{4}") || value.matches("\\d{11}");
+        // Verificação caractere a caractere, sem regex (nada é alocado por validação)
+        return switch (value.length()) {
+            case 15 -> value.charAt(0) == '('
+                    && Caracteres.digitos(value, 1, 3)
+                    && value.charAt(3) == ')'
+                    && Caracteres.espaco(value.charAt(4))
+                    && Caracteres.digitos(value, 5, 10)
+                    && value.charAt(10) == '-'
+                    && Caracteres.digitos(value, 11, 15);
+            case 11 -> Caracteres.digitos(value, 0, 11);
+            default -> false;
+        };
     }
 }
@@ -0,0 +1,103 @@
+-- Esquema inicial, equivalente ao que o ddl-auto=update gerava a partir das entidades.
+-- A partir daqui o Hibernate apenas valida (ddl-auto=validate); mudanças entram como novas versões.
+
+CREATE TABLE cliente (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome            VARCHAR(255),
+    email           VARCHAR(255),
+    telefone        VARCHAR(255),
+    endereco        VARCHAR(255),
+    ativo           BOOLEAN,
+    data_criacao    TIMESTAMP(6),
+    CONSTRAINT pk_cliente PRIMARY KEY (id),
+    CONSTRAINT uk_cliente_email UNIQUE (email)
+);
+
+CREATE TABLE restaurante (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome                    VARCHAR(255),
+    categoria               VARCHAR(255),
+    telefone                VARCHAR(255),
+    taxa_entrega            NUMERIC(38,2),
+    avaliacao               NUMERIC(38,2),
+    tempo_entrega_minutos   INTEGER,
+    ativo                   BOOLEAN NOT NULL,
+    CONSTRAINT pk_restaurante PRIMARY KEY (id)
+);
+
+CREATE TABLE produto (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome            VARCHAR(255),
+    descricao       VARCHAR(255),
+    categoria       VARCHAR(255),
+    preco           FLOAT(53),
+    disponivel      BOOLEAN NOT NULL,
+    restaurante_id  BIGINT,
+    CONSTRAINT pk_produto PRIMARY KEY (id),
+    CONSTRAINT fk_produto_restaurante FOREIGN KEY (restaurante_id) REFERENCES restaurante (id)
+);
+
+CREATE TABLE pedido (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    numero_pedido   VARCHAR(255),
+    cliente_id      BIGINT,
+    restaurante_id  BIGINT,
+    status          ENUM ('CANCELADO','CONFIRMADO','CRIADO','ENTREGUE','PENDENTE','PREPARANDO','SAIU_PARA_ENTREGA'),
+    data_pedido     TIMESTAMP(6),
+    subtotal        NUMERIC(38,2),
+    valor_total     NUMERIC(38,2),
+    observacoes     VARCHAR(255),
+    logradouro      VARCHAR(255),
+    numero          VARCHAR(255),
+    complemento     VARCHAR(255),
+    bairro          VARCHAR(255),
+    cidade          VARCHAR(255),
+    estado          VARCHAR(255),
+    cep             VARCHAR(255),
+    CONSTRAINT pk_pedido PRIMARY KEY (id),
+    CONSTRAINT fk_pedido_cliente FOREIGN KEY (cliente_id) REFERENCES cliente (id),
+    CONSTRAINT fk_pedido_restaurante FOREIGN KEY (restaurante_id) REFERENCES restaurante (id)
+);
+
+CREATE TABLE item_pedido (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    pedido_id       BIGINT NOT NULL,
+    produto_id      BIGINT NOT NULL,
+    quantidade      INTEGER NOT NULL,
+    preco_unitario  NUMERIC(10,2) NOT NULL,
+    subtotal        NUMERIC(10,2) NOT NULL,
+    CONSTRAINT pk_item_pedido PRIMARY KEY (id),
+    CONSTRAINT fk_item_pedido_pedido FOREIGN KEY (pedido_id) REFERENCES pedido (id),
+    CONSTRAINT fk_item_pedido_produto FOREIGN KEY (produto_id) REFERENCES produto (id)
+);
+
+CREATE TABLE usuario (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email           VARCHAR(255) NOT NULL,
+    senha           VARCHAR(255) NOT NULL,
+    nome            VARCHAR(255),
+    role            ENUM ('ADMIN','CLIENTE','ENTREGADOR','RESTAURANTE','USER') NOT NULL,
+    ativo           BOOLEAN NOT NULL,
+    data_criacao    TIMESTAMP(6),
+    restaurante_id  BIGINT,
+    CONSTRAINT pk_usuario PRIMARY KEY (id),
+    CONSTRAINT uk_usuario_email UNIQUE (email)
+);
+
+-- Rollup diário de vendas (mantido pelo VendaDiariaService)
+CREATE TABLE vendas_diarias (
+    data_venda          DATE NOT NULL,
+    restaurante_id      BIGINT NOT NULL,
+    produto_id          BIGINT NOT NULL,
+    quantidade_itens    BIGINT NOT NULL,
+    valor_total         NUMERIC(14,2) NOT NULL,
+    CONSTRAINT pk_vendas_diarias PRIMARY KEY (data_venda, produto_id, restaurante_id)
+);
+
+CREATE TABLE vendas_diarias_restaurante (
+    data_venda          DATE NOT NULL,
+    restaurante_id      BIGINT NOT NULL,
+    quantidade_pedidos  BIGINT NOT NULL,
+    valor_total         NUMERIC(14,2) NOT NULL,
+    CONSTRAINT pk_vendas_diarias_restaurante PRIMARY KEY (data_venda, restaurante_id)
+);
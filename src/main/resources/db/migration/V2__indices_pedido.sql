@@ -0,0 +1,18 @@
+-- Índices compostos para os caminhos de acesso de PedidoRepository e relatórios.
+-- Coluna de igualdade primeiro, faixa de data depois; id no fim serve à paginação keyset
+-- (ORDER BY data_pedido DESC, id DESC).
+
+-- findByClienteId, clientesMaisAtivos, contarClientesAtivos
+CREATE INDEX idx_pedido_cliente_data ON pedido (cliente_id, data_pedido);
+
+-- findByRestauranteId, pedidos de um restaurante por período
+CREATE INDEX idx_pedido_restaurante_data ON pedido (restaurante_id, data_pedido);
+
+-- findByStatus, findByStatusAndDataPedidoBetween, relatorioPedidosPorPeriodoEStatus, buscarPaginaKeysetPorStatus
+CREATE INDEX idx_pedido_status_data ON pedido (status, data_pedido, id);
+
+-- findByDataPedidoBetween/GreaterThanEqual/LessThanEqual, buscarPaginaKeyset, reconstrução do rollup
+CREATE INDEX idx_pedido_data ON pedido (data_pedido, id);
+
+-- item_pedido.pedido_id e produto.restaurante_id não precisam de índice próprio:
+-- o H2 já indexa as colunas das chaves estrangeiras criadas na V1.
@@ -0,0 +1,30 @@
+-- IDs por sequência em vez de IDENTITY: com IDENTITY o Hibernate precisa executar cada
+-- INSERT na hora para obter o id, o que desliga o batch de JDBC. As sequências andam de
+-- 50 em 50 (allocationSize das entidades); o Hibernate distribui os ids do bloco em memória.
+-- Cada sequência começa após o maior id existente. O otimizador pooled trata o valor lido
+-- como o fim do bloco (entrega valor-49..valor), exceto quando ele é o initialValue (1):
+-- por isso o RESTART é MAX(id) + 50, e o primeiro bloco vai de MAX(id)+1 a MAX(id)+50.
+
+CREATE SEQUENCE cliente_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE cliente_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM cliente);
+ALTER TABLE cliente ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE restaurante_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE restaurante_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM restaurante);
+ALTER TABLE restaurante ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE produto_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE produto_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM produto);
+ALTER TABLE produto ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE pedido_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE pedido_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM pedido);
+ALTER TABLE pedido ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE item_pedido_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE item_pedido_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM item_pedido);
+ALTER TABLE item_pedido ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE usuario_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE usuario_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM usuario);
+ALTER TABLE usuario ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,5 @@
+-- Localização do restaurante para a busca por proximidade (RestauranteIndiceEspacial).
+-- latitude/longitude vêm da tabela de prefixos de CEP (geo/cep-prefixos.csv).
+ALTER TABLE restaurante ADD COLUMN cep VARCHAR(9);
+ALTER TABLE restaurante ADD COLUMN latitude FLOAT(53);
+ALTER TABLE restaurante ADD COLUMN longitude FLOAT(53);
@@ -0,0 +1,14 @@
+-- Respostas de criação de pedido por Idempotency-Key: a repetição da mesma chave devolve
+-- a resposta original sem tocar nas tabelas de pedido. Fallback persistente do cache em memória.
+CREATE TABLE pedido_idempotencia (
+    chave       VARCHAR(100) NOT NULL,
+    pedido_id   BIGINT       NOT NULL,
+    resposta    CLOB         NOT NULL,
+    criado_em   TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_pedido_idempotencia PRIMARY KEY (chave)
+);
+
+CREATE INDEX idx_pedido_idempotencia_criado_em ON pedido_idempotencia (criado_em);
+
+-- Número legível do pedido, derivado do id (pedidos antigos ficam sem número)
+CREATE UNIQUE INDEX uk_pedido_numero ON pedido (numero_pedido);
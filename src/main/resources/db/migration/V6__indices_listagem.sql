@@ -0,0 +1,21 @@
+-- Índices das listagens paginadas por cursor (ListagemKeyset): um por ordenação permitida,
+-- com id no fim para o desempate do keyset (ORDER BY campo, id). Ordenar por id usa a chave primária.
+-- Os campos ordenáveis passam a NOT NULL: o cursor guarda o valor da última linha, e o keyset
+-- (campo > valor) não tem como continuar a partir de um NULL.
+
+ALTER TABLE restaurante ALTER COLUMN nome SET NOT NULL;
+ALTER TABLE restaurante ALTER COLUMN taxa_entrega SET NOT NULL;
+ALTER TABLE produto ALTER COLUMN nome SET NOT NULL;
+ALTER TABLE produto ALTER COLUMN preco SET NOT NULL;
+ALTER TABLE cliente ALTER COLUMN nome SET NOT NULL;
+
+-- /api/restaurantes?ordenacao=nome (padrão) e ?ordenacao=taxaEntrega
+CREATE INDEX idx_restaurante_nome ON restaurante (nome, id);
+CREATE INDEX idx_restaurante_taxa_entrega ON restaurante (taxa_entrega, id);
+
+-- /api/produtos?ordenacao=nome (padrão) e ?ordenacao=preco
+CREATE INDEX idx_produto_nome ON produto (nome, id);
+CREATE INDEX idx_produto_preco ON produto (preco, id);
+
+-- /api/clientes?ordenacao=nome (padrão)
+CREATE INDEX idx_cliente_nome ON cliente (nome, id);
@@ -0,0 +1,4 @@
+-- Hash (SHA-256) do corpo da criação junto da resposta: a mesma Idempotency-Key com outro
+-- corpo é rejeitada em vez de devolver um pedido sem relação. Chaves gravadas antes desta
+-- versão ficam sem hash e não são conferidas (vencem em pedido.idempotencia.validade).
+ALTER TABLE pedido_idempotencia ADD COLUMN hash_requisicao VARCHAR(64);
@@ -0,0 +1,57 @@
+package com.deliverutech.delivery_api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.deliverutech.delivery_api.dto.response.PedidoResponse;
+import com.deliverutech.delivery_api.model.PedidoIdempotencia;
+import com.deliverutech.delivery_api.repository.PedidoIdempotenciaRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Validade das chaves de idempotência lidas do banco: contada a partir de criadoEm,
+ * não do momento em que a chave entrou no cache, e sem gravar nada durante a leitura.
+ */
+class PedidoIdempotenciaCacheTest {
+
+	private static final Duration VALIDADE = Duration.ofSeconds(2);
+
+	private final PedidoIdempotenciaRepository repository = mock(PedidoIdempotenciaRepository.class);
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+	private final PedidoIdempotenciaCache cache = new PedidoIdempotenciaCache(repository, jsonMapper, 100, VALIDADE);
+
+	@Test
+	void chaveLidaDoBancoVenceNaValidadeOriginal() throws Exception {
+		LocalDateTime criadoEm = LocalDateTime.now().minus(VALIDADE).plus(Duration.ofMillis(500));
+		when(repository.findById("chave")).thenReturn(Optional.of(new PedidoIdempotencia("chave", 1L, null,
+				jsonMapper.writeValueAsString(new PedidoResponse()), criadoEm)));
+
+		assertThat(cache.buscar("chave", "hash")).isPresent();
+		Thread.sleep(800);
+
+		assertThat(cache.buscar("chave", "hash")).isEmpty();
+		verify(repository, times(2)).findById("chave");
+	}
+
+	@Test
+	void chaveVencidaNoBancoNaoEhRemovidaNaLeitura() throws Exception {
+		when(repository.findById("vencida")).thenReturn(Optional.of(new PedidoIdempotencia("vencida", 1L, null,
+				jsonMapper.writeValueAsString(new PedidoResponse()), LocalDateTime.now().minusDays(1))));
+
+		assertThat(cache.buscar("vencida", "hash")).isEmpty();
+		verify(repository, never()).delete(any());
+		verify(repository, never()).deleteById(any());
+	}
+}
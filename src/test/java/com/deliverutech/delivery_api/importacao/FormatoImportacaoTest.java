@@ -0,0 +1,141 @@
+package com.deliverutech.delivery_api.importacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.deliverutech.delivery_api.importacao.LeitorImportacao.Linha;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Leitura dos formatos de importação: registros CSV (RFC 4180) e linhas NDJSON,
+ * com o número da linha do arquivo em cada registro e erro por linha sem interromper a leitura.
+ */
+class FormatoImportacaoTest {
+
+	private static final String CABECALHO = "nome,categoria,descricao,preco\r\n";
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	@Test
+	void csvComAspasVirgulasEQuebrasDeLinha() throws IOException {
+		List<Linha> linhas = ler(FormatoImportacao.CSV, "\uFEFF" + CABECALHO
+				+ "Pizza,Pizza,\"Molho, queijo\",39.90\r\n"
+				+ "\"Suco \"\"natural\"\"\",Bebida,,8\r\n"
+				+ "Lasanha,Massa,\"Camadas\r\nde massa\",42\r\n"
+				+ "\r\n"
+				+ "Salada,Saudável,Folhas,25");
+
+		assertThat(linhas).extracting(Linha::numero).containsExactly(2L, 3L, 4L, 7L);
+		assertThat(linhas).extracting(Linha::erro).containsOnlyNulls();
+		assertThat(linhas.get(0).campos()).isEqualTo(Map.of(
+				"nome", "Pizza", "categoria", "Pizza", "descricao", "Molho, queijo", "preco", "39.90"));
+		assertThat(linhas.get(1).campos()).containsEntry("nome", "Suco \"natural\"").containsEntry("descricao", "");
+		assertThat(linhas.get(2).campos()).containsEntry("descricao", "Camadas\r\nde massa");
+		assertThat(linhas.get(3).campos()).containsEntry("nome", "Salada").containsEntry("preco", "25");
+	}
+
+	@Test
+	void csvComQuantidadeDeColunasErrada() throws IOException {
+		List<Linha> linhas = ler(FormatoImportacao.CSV, CABECALHO
+				+ "Pizza,Pizza,Molho\n"
+				+ "Suco,Bebida,Laranja,8,sobra\n"
+				+ "Lasanha,Massa,Camadas,42\n");
+
+		assertThat(linhas).extracting(Linha::numero).containsExactly(2L, 3L, 4L);
+		assertThat(linhas).extracting(Linha::erro).containsExactly(
+				"Esperadas 4 colunas, encontradas 3", "Esperadas 4 colunas, encontradas 5", null);
+	}
+
+	@Test
+	void csvComAspasAbertasAteOFim() throws IOException {
+		List<Linha> linhas = ler(FormatoImportacao.CSV, CABECALHO
+				+ "Pizza,Pizza,Molho,39.90\n"
+				+ "Suco,Bebida,\"Laranja,8\n"
+				+ "Lasanha,Massa,Camadas,42\n");
+
+		assertThat(linhas).hasSize(2);
+		assertThat(linhas.get(1).numero()).isEqualTo(3);
+		assertThat(linhas.get(1).erro()).isEqualTo("Aspas sem fechamento");
+	}
+
+	@Test
+	void csvComRegistroAcimaDoLimite() throws IOException {
+		String enorme = "x".repeat(70 * 1024);
+		List<Linha> linhas = ler(FormatoImportacao.CSV, CABECALHO
+				+ "Pizza,Pizza," + enorme + ",39.90\n"
+				+ "Lasanha,Massa,Camadas,42\n");
+
+		assertThat(linhas).extracting(Linha::numero).containsExactly(2L, 3L);
+		assertThat(linhas.get(0).erro()).startsWith("Registro maior que");
+		assertThat(linhas.get(1).erro()).isNull();
+	}
+
+	@Test
+	void csvSemCabecalho() {
+		assertThatThrownBy(() -> ler(FormatoImportacao.CSV, ""))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("CSV sem cabeçalho válido");
+		assertThatThrownBy(() -> ler(FormatoImportacao.CSV, "nome,\"categoria"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void ndjsonComLinhasMalformadas() throws IOException {
+		List<Linha> linhas = ler(FormatoImportacao.NDJSON,
+				"{\"nome\":\"Pizza\",\"preco\":39.9,\"disponivel\":false}\r\n"
+				+ "\n"
+				+ "{\"nome\":\"Suco\",\n"
+				+ "null\n"
+				+ "[1, 2]\n"
+				+ "{\"nome\":\"Lasanha\",\"descricao\":null}");
+
+		assertThat(linhas).extracting(Linha::numero).containsExactly(1L, 3L, 4L, 5L, 6L);
+		assertThat(linhas.get(0).erro()).isNull();
+		assertThat(linhas.get(0).campos()).isEqualTo(Map.of("nome", "Pizza", "preco", "39.9", "disponivel", "false"));
+		assertThat(linhas.get(1).erro()).startsWith("JSON inválido");
+		assertThat(linhas.get(2).erro()).isEqualTo("Esperado um objeto JSON");
+		assertThat(linhas.get(3).erro()).startsWith("JSON inválido");
+		assertThat(linhas.get(4).erro()).isNull();
+		assertThat(linhas.get(4).campos()).containsEntry("nome", "Lasanha").containsEntry("descricao", null);
+	}
+
+	@Test
+	void ndjsonComLinhaAcimaDoLimite() throws IOException {
+		List<Linha> linhas = ler(FormatoImportacao.NDJSON,
+				"{\"nome\":\"" + "x".repeat(70 * 1024) + "\"}\n"
+				+ "{\"nome\":\"Pizza\"}\n");
+
+		assertThat(linhas).extracting(Linha::numero).containsExactly(1L, 2L);
+		assertThat(linhas.get(0).erro()).startsWith("Linha maior que");
+		assertThat(linhas.get(1).campos()).containsEntry("nome", "Pizza");
+	}
+
+	@Test
+	void formatoPorExtensao() {
+		assertThat(FormatoImportacao.de("CSV")).isEqualTo(FormatoImportacao.CSV);
+		assertThat(FormatoImportacao.de("ndjson")).isEqualTo(FormatoImportacao.NDJSON);
+		assertThatThrownBy(() -> FormatoImportacao.de("xlsx")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private List<Linha> ler(FormatoImportacao formato, String conteudo) throws IOException {
+		List<Linha> linhas = new ArrayList<>();
+		try (LeitorImportacao leitor = formato.abrir(
+				new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)), jsonMapper)) {
+			Linha linha;
+			while ((linha = leitor.proxima()) != null) {
+				linhas.add(linha);
+			}
+		}
+		return linhas;
+	}
+}
@@ -0,0 +1,67 @@
+package com.deliverutech.delivery_api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Confere no plano do H2 (EXPLAIN) que as consultas de pedido usam os índices
+ * criados pela migração V2__indices_pedido.sql em vez de varrer a tabela.
+ */
+@SpringBootTest
+class PedidoIndicesTest {
+
+	private static final String PERIODO =
+			"data_pedido BETWEEN TIMESTAMP '2025-01-01 00:00:00' AND TIMESTAMP '2025-12-31 23:59:59'";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void migracoesAplicadas() {
+		Integer versoes = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+		assertThat(versoes).isGreaterThanOrEqualTo(2);
+	}
+
+	@Test
+	void pedidosPorClienteUsamIndiceClienteData() {
+		assertThat(plano("SELECT * FROM pedido WHERE cliente_id = 1 AND " + PERIODO))
+				.contains("IDX_PEDIDO_CLIENTE_DATA");
+	}
+
+	@Test
+	void pedidosPorRestauranteUsamIndiceRestauranteData() {
+		assertThat(plano("SELECT * FROM pedido WHERE restaurante_id = 1 AND " + PERIODO))
+				.contains("IDX_PEDIDO_RESTAURANTE_DATA");
+	}
+
+	@Test
+	void pedidosPorStatusEPeriodoUsamIndiceStatusData() {
+		assertThat(plano("SELECT * FROM pedido WHERE status = 'CONFIRMADO' AND " + PERIODO
+				+ " ORDER BY data_pedido DESC"))
+				.contains("IDX_PEDIDO_STATUS_DATA");
+	}
+
+	@Test
+	void paginaKeysetUsaIndiceData() {
+		assertThat(plano("SELECT * FROM pedido WHERE " + PERIODO
+				+ " AND (data_pedido < TIMESTAMP '2025-06-01 00:00:00'"
+				+ " OR (data_pedido = TIMESTAMP '2025-06-01 00:00:00' AND id < 100))"
+				+ " ORDER BY data_pedido DESC, id DESC FETCH FIRST 21 ROWS ONLY"))
+				.contains("IDX_PEDIDO_DATA");
+	}
+
+	@Test
+	void itensPorPedidoUsamIndiceDaChaveEstrangeira() {
+		assertThat(plano("SELECT * FROM item_pedido WHERE pedido_id IN (1, 2, 3)"))
+				.contains("FK_ITEM_PEDIDO_PEDIDO");
+	}
+
+	private String plano(String sql) {
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+	}
+}
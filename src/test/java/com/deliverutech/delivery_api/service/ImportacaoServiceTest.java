@@ -0,0 +1,107 @@
+package com.deliverutech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.deliverutech.delivery_api.dto.response.ImportacaoResponse;
+import com.deliverutech.delivery_api.dto.response.ImportacaoResponse.ErroLinha;
+import com.deliverutech.delivery_api.importacao.FormatoImportacao;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+import com.deliverutech.delivery_api.service.impl.ImportacaoServiceImpl;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Relatório por linha da importação: erros de leitura e de validação com o número da linha,
+ * e um bloco cuja gravação falha reportado linha a linha sem perder os demais blocos.
+ */
+class ImportacaoServiceTest {
+
+	private final ProdutoService produtoService = mock(ProdutoService.class);
+	private final RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+	private ValidatorFactory validatorFactory;
+	private ImportacaoServiceImpl importacaoService;
+
+	@BeforeEach
+	void preparar() {
+		when(restauranteRepository.findById(1L)).thenReturn(Optional.of(Restaurante.builder().id(1L).build()));
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		importacaoService = new ImportacaoServiceImpl(produtoService, restauranteRepository,
+				validatorFactory.getValidator(), JsonMapper.builder().build(), 2);
+	}
+
+	@AfterEach
+	void encerrar() {
+		importacaoService.close();
+		validatorFactory.close();
+	}
+
+	@Test
+	void blocoComFalhaNaGravacaoReportadoPorLinha() throws Exception {
+		// Blocos de 2 registros: [2, 3], [4, 6], [7]; a gravação do segundo falha
+		when(produtoService.cadastrarLote(anyList()))
+				.thenAnswer(invocacao -> invocacao.getArgument(0))
+				.thenThrow(new DataIntegrityViolationException("violação de chave"))
+				.thenAnswer(invocacao -> invocacao.getArgument(0));
+
+		ImportacaoResponse resposta = importar(FormatoImportacao.CSV, "nome,categoria,descricao,preco\n"
+				+ "Pizza,Pizza,Molho,39.90\n"
+				+ "Suco,Bebida,Laranja,8\n"
+				+ "Lasanha,Massa,\"Camadas\n"
+				+ "de massa\",42\n"
+				+ "Salada,Saudável,Folhas,abc\n"
+				+ "Pudim,Doces,Leite,12\n");
+
+		// A linha que falhou na gravação vem antes da inválida do mesmo bloco
+		assertThat(resposta.getLinhasLidas()).isEqualTo(5);
+		assertThat(resposta.getImportados()).isEqualTo(3);
+		assertThat(resposta.getRejeitados()).isEqualTo(2);
+		assertThat(resposta.getErros()).extracting(ErroLinha::getLinha).containsExactly(4L, 6L);
+		assertThat(resposta.getErros().get(0).getMensagens())
+				.containsExactly("Falha ao gravar o bloco: violação de chave");
+		assertThat(resposta.getErros().get(1).getMensagens()).containsExactly("preco: valor inválido: abc");
+		verify(produtoService, times(3)).cadastrarLote(anyList());
+	}
+
+	@Test
+	void errosDeLeituraEValidacaoComNumeroDaLinha() throws Exception {
+		when(produtoService.cadastrarLote(anyList())).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+		ImportacaoResponse resposta = importar(FormatoImportacao.NDJSON,
+				"{\"nome\":\"Pizza\",\"categoria\":\"Pizza\",\"preco\":39.9}\n"
+				+ "{\"nome\":\"Suco\"\n"
+				+ "\n"
+				+ "{\"nome\":\"X\",\"categoria\":\"Bebida\",\"preco\":8,\"disponivel\":\"talvez\"}\n"
+				+ "null\n");
+
+		assertThat(resposta.getLinhasLidas()).isEqualTo(4);
+		assertThat(resposta.getImportados()).isEqualTo(1);
+		assertThat(resposta.getErros()).extracting(ErroLinha::getLinha).containsExactly(2L, 4L, 5L);
+		assertThat(resposta.getErros().get(0).getMensagens()).singleElement().asString().startsWith("JSON inválido");
+		assertThat(resposta.getErros().get(1).getMensagens()).containsExactly(
+				"disponivel: use true ou false", "nome: Nome deve ter entre 2 e 100 caracteres");
+		assertThat(resposta.getErros().get(2).getMensagens()).containsExactly("Esperado um objeto JSON");
+	}
+
+	private ImportacaoResponse importar(FormatoImportacao formato, String conteudo) throws Exception {
+		return importacaoService.importarProdutos(1L, formato,
+				new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+	}
+}
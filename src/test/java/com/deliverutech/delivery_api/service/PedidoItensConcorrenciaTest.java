@@ -0,0 +1,144 @@
+package com.deliverutech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverutech.delivery_api.dto.request.ItemPedidoRequest;
+import com.deliverutech.delivery_api.model.Cliente;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
+import com.deliverutech.delivery_api.repository.ClienteRepository;
+import com.deliverutech.delivery_api.repository.ProdutoRepository;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+
+/**
+ * Lotes de itens concorrentes no mesmo pedido: cada um lia o valorTotal, somava em memória
+ * e gravava, e o último a gravar apagava o incremento do outro. Um confirmar no meio do lote
+ * levava ao rollup diário só os itens que ele tinha lido.
+ */
+@SpringBootTest
+class PedidoItensConcorrenciaTest {
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private RestauranteRepository restauranteRepository;
+
+	@Autowired
+	private ProdutoRepository produtoRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Restaurante restaurante;
+	private Produto produto;
+	private Long pedidoId;
+
+	@BeforeEach
+	void preparar() {
+		restaurante = new Restaurante();
+		restaurante.setNome("Cantina Concorrente");
+		restaurante.setCategoria("Italiana");
+		restaurante.setTaxaEntrega(new BigDecimal("5.00"));
+		restaurante.setAtivo(true);
+		restaurante = restauranteRepository.save(restaurante);
+
+		produto = new Produto();
+		produto.setNome("Nhoque");
+		produto.setCategoria("Massa");
+		produto.setPreco(10.0);
+		produto.setAtivo(true);
+		produto.setRestaurante(restaurante);
+		produto = produtoRepository.save(produto);
+
+		Cliente cliente = new Cliente();
+		cliente.setNome("Cliente Concorrente");
+		cliente.setEmail("concorrente-" + restaurante.getId() + "@email.com");
+		cliente.setAtivo(true);
+		cliente = clienteRepository.save(cliente);
+
+		Pedido pedido = new Pedido();
+		pedido.setCliente(cliente);
+		pedido.setRestaurante(restaurante);
+		pedidoId = pedidoService.criar(pedido).getId();
+	}
+
+	@Test
+	void lotesConcorrentesSomamAoValorTotal() throws Exception {
+		executarDuranteLote(2, () -> pedidoService.adicionarItens(pedidoId, itens(1)));
+
+		assertThat(pedidoService.buscarPorId(pedidoId).getValorTotal()).isEqualByComparingTo("30.00");
+		assertThat(jdbcTemplate.queryForObject("SELECT SUM(quantidade) FROM item_pedido WHERE pedido_id = ?",
+				Long.class, pedidoId)).isEqualTo(3);
+	}
+
+	@Test
+	void confirmarDuranteLoteContaOsItensDoLote() throws Exception {
+		pedidoService.adicionarItens(pedidoId, itens(1));
+
+		executarDuranteLote(2, () -> pedidoService.confirmar(pedidoId));
+
+		Map<String, Object> vendas = jdbcTemplate.queryForMap(
+				"SELECT quantidade_itens, valor_total FROM vendas_diarias "
+						+ "WHERE data_venda = ? AND restaurante_id = ? AND produto_id = ?",
+				LocalDate.now(), restaurante.getId(), produto.getId());
+		assertThat(((Number) vendas.get("QUANTIDADE_ITENS")).longValue()).isEqualTo(3);
+		assertThat((BigDecimal) vendas.get("VALOR_TOTAL")).isEqualByComparingTo("30.00");
+	}
+
+	// Grava um lote sem fazer commit, dispara a outra operação e só então confirma o lote
+	private void executarDuranteLote(int quantidade, Runnable concorrente) throws Exception {
+		TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+		CountDownLatch gravado = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+
+		CompletableFuture<Void> lote = CompletableFuture.runAsync(() -> transacao.executeWithoutResult(status -> {
+			pedidoService.adicionarItens(pedidoId, itens(quantidade));
+			gravado.countDown();
+			aguardar(commit);
+		}));
+		aguardar(gravado);
+		CompletableFuture<Void> outra = CompletableFuture.runAsync(concorrente);
+		Thread.sleep(300);
+		commit.countDown();
+
+		lote.get(10, TimeUnit.SECONDS);
+		outra.get(10, TimeUnit.SECONDS);
+	}
+
+	private List<ItemPedidoRequest> itens(int quantidade) {
+		return List.of(new ItemPedidoRequest(produto.getId(), quantidade));
+	}
+
+	private static void aguardar(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.deliverutech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchRuntimeException;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+
+import com.deliverutech.delivery_api.exception.GlobalExceptionHandler;
+import com.deliverutech.delivery_api.geo.CepCoordenadas;
+import com.deliverutech.delivery_api.geo.RestauranteIndiceEspacial;
+import com.deliverutech.delivery_api.repository.RestauranteRepository;
+import com.deliverutech.delivery_api.service.impl.RestauranteServiceImpl;
+import com.deliverutech.delivery_api.taxa.TaxaEntregaMotor;
+
+/**
+ * Busca de restaurantes próximos: todo CEP tem região na tabela de prefixos,
+ * e um CEP fora da tabela vira 404, não erro interno.
+ */
+class RestauranteProximosTest {
+
+	@Test
+	void tabelaCobreTodasAsFaixasDeCep() {
+		CepCoordenadas cepCoordenadas = new CepCoordenadas(new ClassPathResource("geo/cep-prefixos.csv"));
+
+		for (int faixa = 1; faixa <= 99; faixa++) {
+			String cep = String.format("%02d010-000", faixa);
+			assertThat(cepCoordenadas.localizar(cep)).as(cep).isPresent();
+		}
+	}
+
+	@Test
+	void cepForaDaTabelaRespondeNaoEncontrado() {
+		CepCoordenadas soCapital = new CepCoordenadas(new ByteArrayResource(
+				"0;-23.5505;-46.6333;Grande São Paulo\n".getBytes(StandardCharsets.UTF_8)));
+		RestauranteService restauranteService = new RestauranteServiceImpl(mock(RestauranteRepository.class),
+				soCapital, mock(RestauranteIndiceEspacial.class), mock(TaxaEntregaMotor.class));
+
+		RuntimeException erro = catchRuntimeException(() -> restauranteService.buscarProximos("17010-000", null, 10));
+
+		assertThat(new GlobalExceptionHandler().handleRuntimeException(erro).getStatusCode())
+				.isEqualTo(HttpStatus.NOT_FOUND);
+	}
+}
@@ -0,0 +1,100 @@
+package com.deliverutech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverutech.delivery_api.model.ItemPedido;
+import com.deliverutech.delivery_api.model.Pedido;
+import com.deliverutech.delivery_api.model.Produto;
+import com.deliverutech.delivery_api.model.Restaurante;
+
+/**
+ * Dois pedidos do mesmo restaurante e produto num dia ainda sem rollup: ambos encontram
+ * a linha ausente, e o segundo INSERT esbarra na chave primária do primeiro.
+ */
+@SpringBootTest
+class VendaDiariaServiceTest {
+
+	@Autowired
+	private VendaDiariaService vendaDiariaService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void pedidosConcorrentesNoMesmoDiaSomamNaMesmaLinha() throws Exception {
+		Pedido pedido = pedido(LocalDateTime.of(2031, 3, 10, 12, 0));
+		TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+		CountDownLatch registrado = new CountDownLatch(1);
+		CountDownLatch confirmar = new CountDownLatch(1);
+
+		CompletableFuture<Void> primeiro = CompletableFuture.runAsync(() -> transacao.executeWithoutResult(status -> {
+			vendaDiariaService.registrarPedido(pedido);
+			registrado.countDown();
+			aguardar(confirmar);
+		}));
+		aguardar(registrado);
+		// O segundo não vê a linha ainda não confirmada e fica esperando o INSERT do primeiro
+		CompletableFuture<Void> segundo = CompletableFuture.runAsync(
+				() -> transacao.executeWithoutResult(status -> vendaDiariaService.registrarPedido(pedido)));
+		Thread.sleep(300);
+		confirmar.countDown();
+
+		primeiro.get(10, TimeUnit.SECONDS);
+		segundo.get(10, TimeUnit.SECONDS);
+
+		Map<String, Object> restaurante = jdbcTemplate.queryForMap(
+				"SELECT quantidade_pedidos, valor_total FROM vendas_diarias_restaurante "
+						+ "WHERE data_venda = DATE '2031-03-10' AND restaurante_id = 1");
+		assertThat(((Number) restaurante.get("QUANTIDADE_PEDIDOS")).longValue()).isEqualTo(2);
+		assertThat((BigDecimal) restaurante.get("VALOR_TOTAL")).isEqualByComparingTo("50.00");
+
+		Map<String, Object> produto = jdbcTemplate.queryForMap(
+				"SELECT quantidade_itens, valor_total FROM vendas_diarias "
+						+ "WHERE data_venda = DATE '2031-03-10' AND restaurante_id = 1 AND produto_id = 1");
+		assertThat(((Number) produto.get("QUANTIDADE_ITENS")).longValue()).isEqualTo(4);
+		assertThat((BigDecimal) produto.get("VALOR_TOTAL")).isEqualByComparingTo("40.00");
+	}
+
+	private static Pedido pedido(LocalDateTime data) {
+		Produto produto = Produto.builder().id(1L).build();
+		ItemPedido item = ItemPedido.builder()
+				.produto(produto)
+				.quantidade(2)
+				.precoUnitario(new BigDecimal("10.00"))
+				.subtotal(new BigDecimal("20.00"))
+				.build();
+		return Pedido.builder()
+				.restaurante(Restaurante.builder().id(1L).build())
+				.dataPedido(data)
+				.valorTotal(new BigDecimal("25.00"))
+				.itens(List.of(item))
+				.build();
+	}
+
+	private static void aguardar(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
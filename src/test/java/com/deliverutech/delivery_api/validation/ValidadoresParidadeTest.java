@@ -0,0 +1,152 @@
+package com.deliverutech.delivery_api.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Os validadores sem regex devem aceitar exatamente o que as expressões antigas aceitavam.
+ * As implementações anteriores ficam aqui como oráculo, conferidas em casos de borda e em
+ * strings aleatórias próximas dos formatos válidos.
+ */
+class ValidadoresParidadeTest {
+
+	private static final List<String> CATEGORIAS_ANTIGAS = Arrays.asList(
+			"COMIDA CASEIRA", "FAST FOOD", "JAPONESA", "ITALIANA", "PIZZARIA",
+			"VEGETARIANA", "SAUDÁVEL", "LANCHES", "DOCES E BOLOS", "CAFETERIA");
+
+	// Caracteres que confundem as classes \d e \s: dígitos de outros alfabetos e espaços Unicode
+	private static final String ALFABETO = "0123456789-() \t\n\u000B\f\r"
+			+ "\u00A0\u2007\u3000\uFF10\uFF11\uFF19\u0660\u0966aZ.";
+
+	private final CEPValidator cepValidator = new CEPValidator();
+	private final TelefoneValidator telefoneValidator = new TelefoneValidator();
+	private final CategoriaValidator categoriaValidator = new CategoriaValidator();
+
+	private static boolean cepAntigo(String value) {
+		if (value == null || value.isEmpty()) {
+			return true;
+		}
+		return value.matches("\\d{5}-\\d{3}") || value.matches("\\d{8}");
+	}
+
+	private static boolean telefoneAntigo(String value) {
+		if (value == null || value.isEmpty()) {
+			return true;
+		}
+		return value.matches("\\(\\d{2}\\)\\s\\d{5}-\\d{4}") || value.matches("\\d{11}");
+	}
+
+	// A versão antiga usava o Locale padrão; ROOT deixa o oráculo independente da máquina
+	private static boolean categoriaAntiga(String value) {
+		if (value == null || value.isEmpty()) {
+			return true;
+		}
+		return CATEGORIAS_ANTIGAS.contains(value.toUpperCase(Locale.ROOT));
+	}
+
+	@Test
+	void cepCasosDeBorda() {
+		conferir(ValidadoresParidadeTest::cepAntigo, valor -> cepValidator.isValid(valor, null),
+				null, "", "01001-000", "01001000", "010010000", "01001 000", "0100-1000",
+				"01001-00", "01001--00", "\uFF10\uFF11\uFF10\uFF10\uFF11-000", "0100\u0661000",
+				"01001-000\n", " 01001000", "01001-0\u000B0", "ABCDE-FGH");
+	}
+
+	@Test
+	void telefoneCasosDeBorda() {
+		conferir(ValidadoresParidadeTest::telefoneAntigo, valor -> telefoneValidator.isValid(valor, null),
+				null, "", "(11) 98765-4321", "11987654321", "(11)\t98765-4321", "(11)\u000B98765-4321",
+				"(11)\n98765-4321", "(11)\f98765-4321", "(11)\r98765-4321", "(11)\u00A098765-4321",
+				"(11)\u300098765-4321", "(11)98765-4321", "(11) 9876-54321", "1198765432",
+				"119876543210", "\uFF11\uFF111987654321", "(1\uFF11) 98765-4321", "[11] 98765-4321");
+	}
+
+	@Test
+	void categoriaCasosDeBorda() {
+		conferir(ValidadoresParidadeTest::categoriaAntiga, valor -> categoriaValidator.isValid(valor, null),
+				null, "", "PIZZARIA", "pizzaria", "PiZzArIa", "fast food", "Fast  Food", " ITALIANA",
+				"ITALIANA ", "saudável", "SAUDAVEL", "Saudável", "doces e bolos", "\u0131tal\u0131ana",
+				"pizzar\u0131a", "CAFETER\u0130A", "ca\u017Feteria", "FA\uFB06 FOOD", "pizza\u00DFria",
+				"COMIDA CA\u00DFEIRA", "JAPONES", "JAPONESAS");
+	}
+
+	@Test
+	void cepAleatorio() {
+		fuzz(ValidadoresParidadeTest::cepAntigo, valor -> cepValidator.isValid(valor, null), "01001-000", "01001000");
+	}
+
+	@Test
+	void telefoneAleatorio() {
+		fuzz(ValidadoresParidadeTest::telefoneAntigo, valor -> telefoneValidator.isValid(valor, null),
+				"(11) 98765-4321", "11987654321");
+	}
+
+	@Test
+	void categoriaAleatoria() {
+		Random random = new Random(19);
+		for (int i = 0; i < 200_000; i++) {
+			String base = CATEGORIAS_ANTIGAS.get(random.nextInt(CATEGORIAS_ANTIGAS.size()));
+			StringBuilder valor = new StringBuilder(base.length());
+			for (char c : base.toCharArray()) {
+				valor.append(random.nextBoolean() ? Character.toLowerCase(c) : c);
+			}
+			if (random.nextInt(4) == 0) {
+				String trocas = "aZ \u0131\u0130\u017F\u00E1\u00C1\u00DF\uFB06";
+				valor.setCharAt(random.nextInt(valor.length()), trocas.charAt(random.nextInt(trocas.length())));
+			}
+			String texto = valor.toString();
+			assertThat(categoriaValidator.isValid(texto, null)).as(texto).isEqualTo(categoriaAntiga(texto));
+		}
+	}
+
+	// Mutações dos formatos válidos (troca, inserção e remoção de caracteres) e strings livres
+	private static void fuzz(Predicate<String> antigo, Predicate<String> novo, String... validos) {
+		Random random = new Random(19);
+		for (int i = 0; i < 500_000; i++) {
+			String texto;
+			if (random.nextInt(3) == 0) {
+				char[] livre = new char[random.nextInt(17)];
+				for (int j = 0; j < livre.length; j++) {
+					livre[j] = ALFABETO.charAt(random.nextInt(ALFABETO.length()));
+				}
+				texto = new String(livre);
+			} else {
+				StringBuilder valor = new StringBuilder(validos[random.nextInt(validos.length)]);
+				int mutacoes = random.nextInt(3);
+				for (int m = 0; m < mutacoes; m++) {
+					char c = ALFABETO.charAt(random.nextInt(ALFABETO.length()));
+					int posicao = random.nextInt(valor.length() + 1);
+					switch (random.nextInt(3)) {
+						case 0 -> valor.insert(posicao, c);
+						case 1 -> {
+							if (posicao < valor.length()) {
+								valor.deleteCharAt(posicao);
+							}
+						}
+						default -> {
+							if (posicao < valor.length()) {
+								valor.setCharAt(posicao, c);
+							}
+						}
+					}
+				}
+				texto = valor.toString();
+			}
+			assertThat(novo.test(texto)).as(texto).isEqualTo(antigo.test(texto));
+		}
+	}
+
+	@SafeVarargs
+	private static <T> void conferir(Predicate<T> antigo, Predicate<T> novo, T... valores) {
+		for (T valor : valores) {
+			assertThat(novo.test(valor)).as(String.valueOf(valor)).isEqualTo(antigo.test(valor));
+		}
+	}
+}